@@ -2,8 +2,12 @@ package com.app.attendify;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@PropertySource("classpath:attendify-defaults.properties")
 public class AttendifyApplication {
 
 	public static void main(String[] args) {
@@ -11,6 +11,8 @@ public class DepartmentDto {
     private String name;
     private List<EventParticipantDTO> participants;
     private List<EventDetailDTO> events;
+    private long participantCount;
+    private long eventCount;
 
     public DepartmentDto(Integer id, String name, List<EventParticipantDTO> participants, List<EventDetailDTO> events) {
         this.id = id;
@@ -19,6 +21,15 @@ public class DepartmentDto {
         this.events = events;
     }
 
+    public DepartmentDto(Integer id, String name, List<EventParticipantDTO> participants, List<EventDetailDTO> events, long participantCount, long eventCount) {
+        this.id = id;
+        this.name = name;
+        this.participants = participants;
+        this.events = events;
+        this.participantCount = participantCount;
+        this.eventCount = eventCount;
+    }
+
     public DepartmentDto(Integer id, String name, List<EventParticipantDTO> participants) {
         this.id = id;
         this.name = name;
@@ -61,4 +72,20 @@ public class DepartmentDto {
     public void setEvents(List<EventDetailDTO> events) {
         this.events = events;
     }
+
+    public long getParticipantCount() {
+        return participantCount;
+    }
+
+    public void setParticipantCount(long participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(long eventCount) {
+        this.eventCount = eventCount;
+    }
 }
@@ -0,0 +1,38 @@
+package com.app.attendify.company.dto;
+
+public class InvitationFailureDTO {
+
+    private String email;
+    private int attempts;
+    private String error;
+
+    public InvitationFailureDTO(String email, int attempts, String error) {
+        this.email = email;
+        this.attempts = attempts;
+        this.error = error;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
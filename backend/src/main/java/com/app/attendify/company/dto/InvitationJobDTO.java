@@ -0,0 +1,123 @@
+package com.app.attendify.company.dto;
+
+import com.app.attendify.company.enums.InvitationJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class InvitationJobDTO {
+
+    private Integer jobId;
+    private InvitationJobStatus status;
+    private int totalCount;
+    private int sentCount;
+    private int failedCount;
+    private int pendingCount;
+    private double sentPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<InvitationFailureDTO> failures;
+
+    public InvitationJobDTO(Integer jobId, InvitationJobStatus status, int totalCount, int sentCount, int failedCount, double sentPerSecond, LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt, List<InvitationFailureDTO> failures) {
+        this.jobId = jobId;
+        this.status = status;
+        this.totalCount = totalCount;
+        this.sentCount = sentCount;
+        this.failedCount = failedCount;
+        this.pendingCount = totalCount - sentCount - failedCount;
+        this.sentPerSecond = sentPerSecond;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.failures = failures;
+    }
+
+    public Integer getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Integer jobId) {
+        this.jobId = jobId;
+    }
+
+    public InvitationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(InvitationJobStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public void setSentCount(int sentCount) {
+        this.sentCount = sentCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(int pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+
+    public double getSentPerSecond() {
+        return sentPerSecond;
+    }
+
+    public void setSentPerSecond(double sentPerSecond) {
+        this.sentPerSecond = sentPerSecond;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public List<InvitationFailureDTO> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<InvitationFailureDTO> failures) {
+        this.failures = failures;
+    }
+}
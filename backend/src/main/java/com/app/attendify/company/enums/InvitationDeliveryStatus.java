@@ -0,0 +1,7 @@
+package com.app.attendify.company.enums;
+
+public enum InvitationDeliveryStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.app.attendify.company.enums;
+
+public enum InvitationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS
+}
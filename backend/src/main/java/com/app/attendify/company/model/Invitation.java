@@ -1,10 +1,12 @@
 package com.app.attendify.company.model;
 
+import com.app.attendify.company.enums.InvitationDeliveryStatus;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_invitation_job_status", columnList = "job_id, delivery_status, id"))
 public class Invitation {
 
     @Id
@@ -33,6 +35,19 @@ public class Invitation {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", referencedColumnName = "id")
+    private InvitationJob job;
+
+    @Enumerated(EnumType.STRING)
+    private InvitationDeliveryStatus deliveryStatus;
+
+    @Column(nullable = false)
+    private int deliveryAttempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
     public String getEmail() {
         return email;
     }
@@ -88,4 +103,36 @@ public class Invitation {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public InvitationJob getJob() {
+        return job;
+    }
+
+    public void setJob(InvitationJob job) {
+        this.job = job;
+    }
+
+    public InvitationDeliveryStatus getDeliveryStatus() {
+        return deliveryStatus;
+    }
+
+    public void setDeliveryStatus(InvitationDeliveryStatus deliveryStatus) {
+        this.deliveryStatus = deliveryStatus;
+    }
+
+    public int getDeliveryAttempts() {
+        return deliveryAttempts;
+    }
+
+    public void setDeliveryAttempts(int deliveryAttempts) {
+        this.deliveryAttempts = deliveryAttempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
 }
@@ -0,0 +1,119 @@
+package com.app.attendify.company.model;
+
+import com.app.attendify.company.enums.InvitationJobStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+public class InvitationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", referencedColumnName = "id", nullable = false)
+    private Company company;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InvitationJobStatus status = InvitationJobStatus.QUEUED;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private int sentCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public InvitationJob setId(Integer id) {
+        this.id = id;
+        return this;
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+
+    public InvitationJob setCompany(Company company) {
+        this.company = company;
+        return this;
+    }
+
+    public InvitationJobStatus getStatus() {
+        return status;
+    }
+
+    public InvitationJob setStatus(InvitationJobStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public InvitationJob setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+        return this;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public InvitationJob setSentCount(int sentCount) {
+        this.sentCount = sentCount;
+        return this;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public InvitationJob setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+        return this;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public InvitationJob setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public InvitationJob setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+        return this;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public InvitationJob setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+        return this;
+    }
+}
@@ -2,11 +2,13 @@ package com.app.attendify.company.repository;
 
 import com.app.attendify.company.model.Company;
 import com.app.attendify.company.model.Department;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +18,19 @@ public interface DepartmentRepository extends JpaRepository<Department, Integer>
 
     @Query("SELECT d FROM Department d WHERE d.id IN :ids AND d.company = :company")
     List<Department> findByIdInAndCompany(@Param("ids") List<Integer> ids, @Param("company") Company company);
+
+    @Query("SELECT d.id, d.name FROM Department d WHERE d.company.id = :companyId AND (d.name > :afterName OR (d.name = :afterName AND d.id > :afterId)) ORDER BY d.name, d.id")
+    List<Object[]> findOverviewByCompany(@Param("companyId") Integer companyId, @Param("afterName") String afterName, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT p.department.id, COUNT(p.id) FROM EventParticipant p WHERE p.department.id IN :departmentIds GROUP BY p.department.id")
+    List<Object[]> countParticipantsByDepartment(@Param("departmentIds") Collection<Integer> departmentIds);
+
+    @Query("SELECT d.id, COUNT(e.id) FROM Event e JOIN e.departments d WHERE d.id IN :departmentIds AND e.availableForAllDepartments = false GROUP BY d.id")
+    List<Object[]> countDepartmentEvents(@Param("departmentIds") Collection<Integer> departmentIds);
+
+    @Query("SELECT r.departmentId, r.participantId, r.fullName, r.email " + "FROM (SELECT p.department.id AS departmentId, p.id AS participantId, u.fullName AS fullName, u.email AS email, ROW_NUMBER() OVER (PARTITION BY p.department.id ORDER BY u.fullName, p.id) AS position " + "FROM EventParticipant p JOIN p.user u WHERE p.department.id IN :departmentIds) r " + "WHERE r.position <= :limit ORDER BY r.departmentId, r.position")
+    List<Object[]> findParticipantPreviews(@Param("departmentIds") Collection<Integer> departmentIds, @Param("limit") int limit);
+
+    @Query("SELECT r.departmentId, r.eventId, r.name, r.description, r.location, r.eventStartDate, r.eventEndDate, r.organizerName, r.attendeeLimit " + "FROM (SELECT d.id AS departmentId, e.id AS eventId, e.name AS name, e.description AS description, e.location AS location, e.eventStartDate AS eventStartDate, e.eventEndDate AS eventEndDate, u.fullName AS organizerName, e.attendeeLimit AS attendeeLimit, " + "ROW_NUMBER() OVER (PARTITION BY d.id ORDER BY e.eventStartDate DESC, e.id DESC) AS position " + "FROM Event e JOIN e.departments d LEFT JOIN e.organizer o LEFT JOIN o.user u WHERE d.id IN :departmentIds AND e.availableForAllDepartments = false) r " + "WHERE r.position <= :limit ORDER BY r.departmentId, r.position")
+    List<Object[]> findRecentDepartmentEvents(@Param("departmentIds") Collection<Integer> departmentIds, @Param("limit") int limit);
 }
@@ -0,0 +1,37 @@
+package com.app.attendify.company.repository;
+
+import com.app.attendify.company.model.InvitationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface InvitationJobRepository extends JpaRepository<InvitationJob, Integer> {
+
+    Optional<InvitationJob> findByIdAndCompany_Id(Integer id, Integer companyId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationJob j SET j.status = com.app.attendify.company.enums.InvitationJobStatus.RUNNING, j.startedAt = :startedAt WHERE j.status = com.app.attendify.company.enums.InvitationJobStatus.QUEUED AND j.id IN (SELECT i.job.id FROM Invitation i WHERE i.id IN :invitationIds)")
+    int markStarted(@Param("invitationIds") Collection<Integer> invitationIds, @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationJob j SET " +
+            "j.sentCount = (SELECT COUNT(i) FROM Invitation i WHERE i.job.id = j.id AND i.deliveryStatus = com.app.attendify.company.enums.InvitationDeliveryStatus.SENT), " +
+            "j.failedCount = (SELECT COUNT(i) FROM Invitation i WHERE i.job.id = j.id AND i.deliveryStatus = com.app.attendify.company.enums.InvitationDeliveryStatus.FAILED) " +
+            "WHERE j.id IN (SELECT i.job.id FROM Invitation i WHERE i.id IN :invitationIds)")
+    int refreshProgress(@Param("invitationIds") Collection<Integer> invitationIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationJob j SET j.status = CASE WHEN j.failedCount > 0 THEN com.app.attendify.company.enums.InvitationJobStatus.COMPLETED_WITH_ERRORS ELSE com.app.attendify.company.enums.InvitationJobStatus.COMPLETED END, j.finishedAt = :now " +
+            "WHERE j.finishedAt IS NULL AND j.id IN (SELECT i.job.id FROM Invitation i WHERE i.id IN :invitationIds) " +
+            "AND NOT EXISTS (SELECT p FROM Invitation p WHERE p.job.id = j.id AND p.deliveryStatus = com.app.attendify.company.enums.InvitationDeliveryStatus.PENDING)")
+    int markFinished(@Param("invitationIds") Collection<Integer> invitationIds, @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,18 @@
 package com.app.attendify.company.repository;
 
 import com.app.attendify.company.model.Invitation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface InvitationRepository extends JpaRepository<Invitation, Integer> {
 
     Optional<Invitation> findByToken(String token);
+
+    @Query("SELECT i.email, i.deliveryAttempts, i.lastError FROM Invitation i WHERE i.job.id = :jobId AND i.deliveryStatus = com.app.attendify.company.enums.InvitationDeliveryStatus.FAILED ORDER BY i.id")
+    List<Object[]> findFailuresByJobId(@Param("jobId") Integer jobId, Pageable pageable);
 }
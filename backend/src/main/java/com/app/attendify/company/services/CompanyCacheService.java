@@ -0,0 +1,41 @@
+package com.app.attendify.company.services;
+
+import com.app.attendify.company.model.Company;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class CompanyCacheService {
+
+    private static final String COMPANY_DEPARTMENTS_ROLE = Company.class.getName() + ".departments";
+
+    private final Cache cache;
+
+    @Autowired
+    public CompanyCacheService(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    public void evictDepartments(Integer companyId) {
+        evict(() -> {
+            cache.evictCollectionData(COMPANY_DEPARTMENTS_ROLE, companyId);
+            cache.evictEntityData(Company.class, companyId);
+        });
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.app.attendify.company.repository.CompanyRepository;
 import com.app.attendify.company.repository.DepartmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,11 +19,13 @@ public class CompanyService {
 
     private final CompanyRepository companyRepository;
     private final DepartmentRepository departmentRepository;
+    private final CompanyCacheService companyCacheService;
 
     @Autowired
-    public CompanyService(CompanyRepository companyRepository, DepartmentRepository departmentRepository) {
+    public CompanyService(CompanyRepository companyRepository, DepartmentRepository departmentRepository, CompanyCacheService companyCacheService) {
         this.companyRepository = companyRepository;
         this.departmentRepository = departmentRepository;
+        this.companyCacheService = companyCacheService;
     }
 
     public List<DepartmentDto> getDepartmentsByCompanyId(Integer companyId) {
@@ -36,20 +40,26 @@ public class CompanyService {
         return departments.stream().map(department -> new DepartmentDto(department.getId(), department.getName())).collect(Collectors.toList());
     }
 
+    @Transactional
     public void addDepartmentsToCompany(Integer companyId, List<String> departmentNames) {
         Company company = companyRepository.findById(companyId).orElseThrow(() -> new RuntimeException("Company not found"));
+        createDepartments(company, departmentNames);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createDepartments(Company company, List<String> departmentNames) {
+        if (departmentNames.isEmpty()) {
+            return;
+        }
 
-        for (String departmentName : departmentNames) {
+        List<Department> departments = departmentNames.stream().map(departmentName -> {
             Department department = new Department();
             department.setName(departmentName);
             department.setCompany(company);
+            return department;
+        }).toList();
 
-            try {
-                departmentRepository.save(department);
-            } catch (Exception e) {
-                System.err.println("Error saving department: " + e.getMessage());
-                throw new RuntimeException("Failed to save department: " + departmentName);
-            }
-        }
+        departmentRepository.saveAll(departments);
+        companyCacheService.evictDepartments(company.getId());
     }
 }
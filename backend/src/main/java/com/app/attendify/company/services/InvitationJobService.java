@@ -0,0 +1,108 @@
+package com.app.attendify.company.services;
+
+import com.app.attendify.company.dto.InvitationFailureDTO;
+import com.app.attendify.company.dto.InvitationJobDTO;
+import com.app.attendify.company.dto.InvitationRequestDto;
+import com.app.attendify.company.enums.InvitationDeliveryStatus;
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.InvitationJob;
+import com.app.attendify.company.repository.InvitationJobRepository;
+import com.app.attendify.company.repository.InvitationRepository;
+import com.app.attendify.outbox.enums.OutboxStatus;
+import com.app.attendify.outbox.events.OutboxDeliveryEvent;
+import com.app.attendify.outbox.model.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class InvitationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvitationJobService.class);
+
+    private static final int MAX_REPORTED_FAILURES = 50;
+    private static final String UPDATE_DELIVERY_SQL = "UPDATE invitation SET delivery_status = ?, delivery_attempts = ?, last_error = ? WHERE id = ?";
+
+    private final InvitationJobRepository invitationJobRepository;
+    private final InvitationRepository invitationRepository;
+    private final InvitationService invitationService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InvitationJobService(InvitationJobRepository invitationJobRepository, InvitationRepository invitationRepository, InvitationService invitationService, JdbcTemplate jdbcTemplate) {
+        this.invitationJobRepository = invitationJobRepository;
+        this.invitationRepository = invitationRepository;
+        this.invitationService = invitationService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public InvitationJobDTO enqueue(List<InvitationRequestDto.EmailDepartment> emailDepartments, Company company) {
+        if (emailDepartments == null || emailDepartments.isEmpty()) {
+            throw new IllegalArgumentException("At least one email is required");
+        }
+
+        InvitationJob job = invitationJobRepository.save(new InvitationJob().setCompany(company).setTotalCount(emailDepartments.size()).setCreatedAt(LocalDateTime.now()));
+        invitationService.createInvitations(job, company, emailDepartments);
+
+        logger.info("Queued invitation job {} with {} invitations for company {}", job.getId(), emailDepartments.size(), company.getId());
+        return toDto(job, List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public InvitationJobDTO getJob(Integer jobId, Integer companyId) {
+        InvitationJob job = invitationJobRepository.findByIdAndCompany_Id(jobId, companyId).orElseThrow(() -> new IllegalArgumentException("Invitation job not found"));
+
+        List<InvitationFailureDTO> failures = job.getFailedCount() == 0 ? List.of() : invitationRepository.findFailuresByJobId(jobId, PageRequest.of(0, MAX_REPORTED_FAILURES)).stream().map(row -> new InvitationFailureDTO((String) row[0], (Integer) row[1], (String) row[2])).toList();
+
+        return toDto(job, failures);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOutboxDelivery(OutboxDeliveryEvent event) {
+        List<OutboxMessage> invitationMessages = event.messages().stream().filter(message -> message.getInvitationId() != null).toList();
+        if (invitationMessages.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_DELIVERY_SQL, invitationMessages.stream().map(message -> new Object[]{toDeliveryStatus(message.getStatus()).name(), message.getAttempts(), message.getLastError(), message.getInvitationId()}).toList());
+
+        List<Integer> invitationIds = invitationMessages.stream().map(OutboxMessage::getInvitationId).toList();
+        invitationJobRepository.markStarted(invitationIds, event.claimedAt());
+        invitationJobRepository.refreshProgress(invitationIds);
+        int finished = invitationJobRepository.markFinished(invitationIds, LocalDateTime.now());
+        if (finished > 0) {
+            logger.info("{} invitation jobs finished", finished);
+        }
+    }
+
+    private static InvitationDeliveryStatus toDeliveryStatus(OutboxStatus status) {
+        return switch (status) {
+            case SENT -> InvitationDeliveryStatus.SENT;
+            case DEAD -> InvitationDeliveryStatus.FAILED;
+            default -> InvitationDeliveryStatus.PENDING;
+        };
+    }
+
+    private InvitationJobDTO toDto(InvitationJob job, List<InvitationFailureDTO> failures) {
+        double sentPerSecond = 0;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+            sentPerSecond = job.getSentCount() * 1000.0 / elapsedMillis;
+        }
+
+        return new InvitationJobDTO(job.getId(), job.getStatus(), job.getTotalCount(), job.getSentCount(), job.getFailedCount(), sentPerSecond, job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt(), failures);
+    }
+}
@@ -4,88 +4,74 @@ import com.app.attendify.company.dto.InvitationRequestDto;
 import com.app.attendify.company.model.Company;
 import com.app.attendify.company.model.Department;
 import com.app.attendify.company.model.Invitation;
+import com.app.attendify.company.model.InvitationJob;
 import com.app.attendify.company.repository.DepartmentRepository;
 import com.app.attendify.company.repository.InvitationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class InvitationService {
 
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INVITATION_SUBJECT = "You're Invited!";
+    private static final String INVITATION_TEXT = "Click the following link to complete your registration: https://attendify-frontend.onrender.com/register-participant?token=";
+    private static final String INSERT_INVITATION_SQL = "INSERT INTO invitation (email, token, expiration_date, company_id, department_id, accepted, created_at, job_id, delivery_status, delivery_attempts) VALUES (?, ?, ?, ?, ?, false, ?, ?, 'PENDING', 0)";
+    private static final String ENQUEUE_INVITATION_EMAILS_SQL = "INSERT INTO outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at, invitation_id) SELECT i.email, ?, CONCAT(?, i.token), 'PENDING', 0, ?, ?, i.id FROM invitation i WHERE i.job_id = ? ORDER BY i.id";
+
     private final InvitationRepository invitationRepository;
-    private final JavaMailSender mailSender;
     private final DepartmentRepository departmentRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public InvitationService(InvitationRepository invitationRepository, JavaMailSender mailSender, DepartmentRepository departmentRepository) {
+    public InvitationService(InvitationRepository invitationRepository, DepartmentRepository departmentRepository, JdbcTemplate jdbcTemplate) {
         this.invitationRepository = invitationRepository;
-        this.mailSender = mailSender;
         this.departmentRepository = departmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public Invitation getInvitation(String token) {
         return invitationRepository.findByToken(token).orElseThrow(() -> new RuntimeException("Invalid or expired invitation token"));
     }
 
-    public void sendInvitationEmail(String toEmail, String token) {
-        System.out.println("sendInvitationEmail called with email: " + toEmail + " and token: " + token);
-
-        String subject = "You're Invited!";
-        String invitationLink = "https://attendify-frontend.onrender.com/register-participant?token=" + token;
-        String message = "Click the following link to complete your registration: " + invitationLink;
-
-        System.out.println("Email content: ");
-        System.out.println("Subject: " + subject);
-        System.out.println("Message: " + message);
-
-        try {
-            SimpleMailMessage email = new SimpleMailMessage();
-            email.setTo(toEmail);
-            email.setSubject(subject);
-            email.setText(message);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createInvitations(InvitationJob job, Company company, List<InvitationRequestDto.EmailDepartment> emailDepartments) {
+        Map<Integer, Department> departments = departmentRepository.findByCompany(company).stream().collect(Collectors.toMap(Department::getId, Function.identity()));
 
-            System.out.println("Sending email to: " + toEmail);
-
-            mailSender.send(email);
-
-            System.out.println("Email sent successfully to: " + toEmail);
-        } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
-            e.printStackTrace();
+        for (InvitationRequestDto.EmailDepartment emailDepartment : emailDepartments) {
+            if (emailDepartment.getEmail() == null || emailDepartment.getEmail().isBlank()) {
+                throw new IllegalArgumentException("Email is required");
+            }
+            if (!departments.containsKey(emailDepartment.getDepartmentId())) {
+                throw new IllegalArgumentException("Invalid department for " + emailDepartment.getEmail());
+            }
         }
-    }
-
-    public Invitation createInvitation(String email, Company company, Integer departmentId) {
-        Department department = departmentRepository.findById(departmentId).orElseThrow(() -> new IllegalArgumentException("Invalid department"));
 
-        Invitation invitation = new Invitation();
-        invitation.setEmail(email);
-        invitation.setCompany(company);
-        invitation.setDepartment(department);
-        invitation.setToken(UUID.randomUUID().toString());
-        invitation.setExpirationDate(LocalDateTime.now().plusDays(7));
-        invitation.setAccepted(false);
-        invitation.setCreatedAt(LocalDateTime.now());
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expirationDate = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
 
-        invitation = invitationRepository.save(invitation);
-        return invitation;
-    }
+        jdbcTemplate.batchUpdate(INSERT_INVITATION_SQL, emailDepartments, INSERT_BATCH_SIZE, (ps, emailDepartment) -> {
+            ps.setString(1, emailDepartment.getEmail().trim());
+            ps.setString(2, UUID.randomUUID().toString());
+            ps.setTimestamp(3, expirationDate);
+            ps.setInt(4, company.getId());
+            ps.setInt(5, emailDepartment.getDepartmentId());
+            ps.setTimestamp(6, createdAt);
+            ps.setInt(7, job.getId());
+        });
 
-    public void sendBulkInvitations(List<InvitationRequestDto.EmailDepartment> emailDepartments, Company company) {
-        for (InvitationRequestDto.EmailDepartment emailDepartment : emailDepartments) {
-            Integer departmentId = emailDepartment.getDepartmentId();
-            String email = emailDepartment.getEmail();
-
-            Invitation invitation = createInvitation(email, company, departmentId);
-
-            sendInvitationEmail(email, invitation.getToken());
-        }
+        jdbcTemplate.update(ENQUEUE_INVITATION_EMAILS_SQL, INVITATION_SUBJECT, INVITATION_TEXT, createdAt, createdAt, job.getId());
     }
 
     public void markAsAccepted(Invitation invitation) {
@@ -0,0 +1,50 @@
+package com.app.attendify.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorConfiguration.class);
+
+    @Bean
+    AsyncTaskExecutor mailExecutor(@Value("${attendify.outbox.mail-workers:4}") int mailWorkers, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            logger.info("Sending outbox mail on virtual threads, at most {} concurrent SMTP connections", mailWorkers);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outbox-mail-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(mailWorkers);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailWorkers);
+        executor.setMaxPoolSize(mailWorkers);
+        executor.setQueueCapacity(mailWorkers * 25);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("outbox-mail-");
+        return executor;
+    }
+
+    @Bean
+    AsyncTaskExecutor passwordHashExecutor(@Value("${attendify.participant-import.hash-threads:4}") int hashThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hashThreads);
+        executor.setMaxPoolSize(hashThreads);
+        executor.setQueueCapacity(hashThreads * 25);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+}
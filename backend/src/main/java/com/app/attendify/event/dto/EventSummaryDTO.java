@@ -0,0 +1,17 @@
+package com.app.attendify.event.dto;
+
+import java.time.LocalDateTime;
+
+public record EventSummaryDTO(Integer id, String name, String description, String location, String companyName,
+                              String organizerName, Integer attendeeLimit, LocalDateTime eventStartDate,
+                              LocalDateTime eventEndDate, LocalDateTime joinDeadline, boolean joinApproval,
+                              boolean availableForAllDepartments, int acceptedCount, int pendingCount) {
+
+    public Integer availableSlots() {
+        if (attendeeLimit == null) {
+            return null;
+        }
+
+        return attendeeLimit - acceptedCount;
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.attendify.event.dto;
+
+import com.app.attendify.eventParticipant.enums.Gender;
+
+import java.util.Map;
+
+public class GenderStatisticsPageDTO {
+
+    private Map<Integer, Map<Gender, Long>> statistics;
+    private Integer nextCursor;
+
+    public GenderStatisticsPageDTO(Map<Integer, Map<Gender, Long>> statistics, Integer nextCursor) {
+        this.statistics = statistics;
+        this.nextCursor = nextCursor;
+    }
+
+    public Map<Integer, Map<Gender, Long>> getStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(Map<Integer, Map<Gender, Long>> statistics) {
+        this.statistics = statistics;
+    }
+
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Integer nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -3,5 +3,6 @@ package com.app.attendify.event.enums;
 public enum AttendanceStatus {
     PENDING,
     ACCEPTED,
-    REJECTED
+    REJECTED,
+    WAITLISTED
 }
@@ -2,16 +2,20 @@ package com.app.attendify.event.model;
 
 import com.app.attendify.company.model.Company;
 import com.app.attendify.company.model.Department;
-import com.app.attendify.event.enums.AttendanceStatus;
 import com.app.attendify.eventOrganizer.model.EventOrganizer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = "Event.withAgenda", attributeNodes = @NamedAttributeNode("agendaItems"))
+@NamedEntityGraph(name = "Event.summary", attributeNodes = {@NamedAttributeNode("company"), @NamedAttributeNode(value = "organizer", subgraph = "organizer")}, subgraphs = @NamedSubgraph(name = "organizer", attributeNodes = @NamedAttributeNode("user")))
+@Table(indexes = {@Index(name = "idx_event_company_id", columnList = "company_id, id"), @Index(name = "idx_event_organizer_start", columnList = "organizer_id, event_start_date"), @Index(name = "idx_event_company_start", columnList = "company_id, event_start_date")})
 public class Event {
 
     @Id
@@ -52,13 +56,16 @@ public class Event {
     @JsonIgnore
     private EventOrganizer organizer;
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<EventAttendance> eventAttendances = new ArrayList<>();
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<AgendaItem> agendaItems = new ArrayList<>();
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(name = "event_department", joinColumns = @JoinColumn(name = "event_id"), inverseJoinColumns = @JoinColumn(name = "department_id"))
     private List<Department> departments = new ArrayList<>();
 
@@ -70,6 +77,14 @@ public class Event {
     @Column(nullable = false)
     private boolean availableForAllDepartments;
 
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int acceptedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int pendingCount;
+
 
     public Integer getId() {
         return id;
@@ -224,17 +239,23 @@ public class Event {
         this.feedbacks = feedbacks;
     }
 
+    public int getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
     public Integer getAvailableSlots() {
         if (attendeeLimit == null) {
             return null;
         }
 
-        long acceptedCount = eventAttendances.stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.ACCEPTED).count();
-
-        return attendeeLimit - (int) acceptedCount;
+        return attendeeLimit - acceptedCount;
     }
 
     public Integer getPendingRequests() {
-        return (int) eventAttendances.stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.PENDING).count();
+        return pendingCount;
     }
 }
@@ -4,8 +4,8 @@ import com.app.attendify.event.enums.AttendanceStatus;
 import com.app.attendify.eventParticipant.model.EventParticipant;
 import jakarta.persistence.*;
 
-
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_event_attendance_participant_event", columnNames = {"participant_id", "event_id"}), indexes = @Index(name = "idx_event_attendance_event_status", columnList = "event_id, status, id"))
 public class EventAttendance {
 
     @Id
@@ -0,0 +1,192 @@
+package com.app.attendify.event.model;
+
+import com.app.attendify.eventParticipant.enums.EducationLevel;
+import com.app.attendify.eventParticipant.enums.Gender;
+import com.app.attendify.eventParticipant.enums.Occupation;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Entity
+@DynamicUpdate
+@Table(name = "event_stats")
+public class EventStats {
+
+    @Id
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Column(nullable = false)
+    private long acceptedCount;
+
+    @Column(nullable = false)
+    private long ageSum;
+
+    @Column(nullable = false)
+    private long experienceSum;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private Integer minExperience;
+
+    private Integer maxExperience;
+
+    @Column(nullable = false)
+    private boolean extremesStale;
+
+    @ElementCollection
+    @CollectionTable(name = "event_stats_gender", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "gender")
+    @Column(name = "participant_count", nullable = false)
+    private Map<Gender, Long> genderCounts = new HashMap<>();
+
+    @ElementCollection
+    @CollectionTable(name = "event_stats_education_level", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "education_level")
+    @Column(name = "participant_count", nullable = false)
+    private Map<EducationLevel, Long> educationLevelCounts = new HashMap<>();
+
+    @ElementCollection
+    @CollectionTable(name = "event_stats_occupation", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "occupation")
+    @Column(name = "participant_count", nullable = false)
+    private Map<Occupation, Long> occupationCounts = new HashMap<>();
+
+    @ElementCollection
+    @CollectionTable(name = "event_stats_department", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyColumn(name = "department_name")
+    @Column(name = "participant_count", nullable = false)
+    private Map<String, Long> departmentCounts = new HashMap<>();
+
+    public EventStats() {
+    }
+
+    public EventStats(Integer eventId) {
+        this.eventId = eventId;
+    }
+
+    public void addGroup(Gender gender, EducationLevel educationLevel, Occupation occupation, String departmentName, long count, long groupAgeSum, int groupMinAge, int groupMaxAge, long groupExperienceSum, int groupMinExperience, int groupMaxExperience) {
+        acceptedCount += count;
+        ageSum += groupAgeSum;
+        experienceSum += groupExperienceSum;
+        minAge = minAge == null ? groupMinAge : Math.min(minAge, groupMinAge);
+        maxAge = maxAge == null ? groupMaxAge : Math.max(maxAge, groupMaxAge);
+        minExperience = minExperience == null ? groupMinExperience : Math.min(minExperience, groupMinExperience);
+        maxExperience = maxExperience == null ? groupMaxExperience : Math.max(maxExperience, groupMaxExperience);
+        genderCounts.merge(gender, count, Long::sum);
+        educationLevelCounts.merge(educationLevel, count, Long::sum);
+        occupationCounts.merge(occupation, count, Long::sum);
+        if (departmentName != null) {
+            departmentCounts.merge(departmentName, count, Long::sum);
+        }
+    }
+
+    public void add(EventParticipant participant) {
+        addGroup(participant.getGender(), participant.getEducationLevel(), participant.getOccupation(), participant.getDepartment() != null ? participant.getDepartment().getName() : null, 1, participant.getAge(), participant.getAge(), participant.getAge(), participant.getYearsOfExperience(), participant.getYearsOfExperience(), participant.getYearsOfExperience());
+    }
+
+    public void remove(EventParticipant participant) {
+        acceptedCount--;
+        ageSum -= participant.getAge();
+        experienceSum -= participant.getYearsOfExperience();
+        decrement(genderCounts, participant.getGender());
+        decrement(educationLevelCounts, participant.getEducationLevel());
+        decrement(occupationCounts, participant.getOccupation());
+        if (participant.getDepartment() != null) {
+            decrement(departmentCounts, participant.getDepartment().getName());
+        }
+
+        if (acceptedCount <= 0) {
+            updateExtremes(null, null, null, null);
+        } else if (participant.getAge().equals(minAge) || participant.getAge().equals(maxAge) || participant.getYearsOfExperience().equals(minExperience) || participant.getYearsOfExperience().equals(maxExperience)) {
+            extremesStale = true;
+        }
+    }
+
+    public void replaceWith(EventStats rebuilt) {
+        acceptedCount = rebuilt.acceptedCount;
+        ageSum = rebuilt.ageSum;
+        experienceSum = rebuilt.experienceSum;
+        updateExtremes(rebuilt.minAge, rebuilt.maxAge, rebuilt.minExperience, rebuilt.maxExperience);
+        genderCounts.clear();
+        genderCounts.putAll(rebuilt.genderCounts);
+        educationLevelCounts.clear();
+        educationLevelCounts.putAll(rebuilt.educationLevelCounts);
+        occupationCounts.clear();
+        occupationCounts.putAll(rebuilt.occupationCounts);
+        departmentCounts.clear();
+        departmentCounts.putAll(rebuilt.departmentCounts);
+    }
+
+    public void updateExtremes(Integer minAge, Integer maxAge, Integer minExperience, Integer maxExperience) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.extremesStale = false;
+    }
+
+    private static <K> void decrement(Map<K, Long> counts, K key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public Integer getEventId() {
+        return eventId;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public long getAgeSum() {
+        return ageSum;
+    }
+
+    public long getExperienceSum() {
+        return experienceSum;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public Integer getMinExperience() {
+        return minExperience;
+    }
+
+    public Integer getMaxExperience() {
+        return maxExperience;
+    }
+
+    public boolean isExtremesStale() {
+        return extremesStale;
+    }
+
+    public Map<Gender, Long> getGenderCounts() {
+        return genderCounts;
+    }
+
+    public Map<EducationLevel, Long> getEducationLevelCounts() {
+        return educationLevelCounts;
+    }
+
+    public Map<Occupation, Long> getOccupationCounts() {
+        return occupationCounts;
+    }
+
+    public Map<String, Long> getDepartmentCounts() {
+        return departmentCounts;
+    }
+}
@@ -4,6 +4,7 @@ import com.app.attendify.eventParticipant.model.EventParticipant;
 import jakarta.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_feedback_event_participant", columnNames = {"event_id", "participant_id"}))
 public class Feedback {
 
     @Id
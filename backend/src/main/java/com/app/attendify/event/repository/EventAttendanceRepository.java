@@ -1,13 +1,16 @@
 package com.app.attendify.event.repository;
 
+import com.app.attendify.event.enums.AttendanceStatus;
 import com.app.attendify.event.model.EventAttendance;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +26,24 @@ public interface EventAttendanceRepository extends JpaRepository<EventAttendance
 
     Optional<EventAttendance> findByParticipantIdAndEventId(Integer participantId, Integer eventId);
 
-    @Query("SELECT e.event.id, p.gender, COUNT(p.id) " + "FROM EventAttendance e " + "JOIN e.participant p " + "GROUP BY e.event.id, p.gender")
-    List<Object[]> countParticipantsByGender();
+    Optional<EventAttendance> findFirstByEventIdAndStatusOrderByIdAsc(Integer eventId, AttendanceStatus status);
+
+    @Query("SELECT a.event.id, a.status FROM EventAttendance a WHERE a.participant.id = :participantId AND a.event.id IN :eventIds")
+    List<Object[]> findStatusesByParticipantIdAndEventIds(@Param("participantId") Integer participantId, @Param("eventIds") Collection<Integer> eventIds);
+
+    @Query("SELECT p.gender, p.educationLevel, p.occupation, d.name, COUNT(a), SUM(p.age), MIN(p.age), MAX(p.age), SUM(p.yearsOfExperience), MIN(p.yearsOfExperience), MAX(p.yearsOfExperience) " + "FROM EventAttendance a JOIN a.participant p LEFT JOIN p.department d " + "WHERE a.event.id = :eventId AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED " + "GROUP BY p.gender, p.educationLevel, p.occupation, d.name")
+    List<Object[]> aggregateAcceptedDemographics(@Param("eventId") Integer eventId);
+
+    @Query("SELECT MIN(p.age), MAX(p.age), MIN(p.yearsOfExperience), MAX(p.yearsOfExperience) " + "FROM EventAttendance a JOIN a.participant p " + "WHERE a.event.id = :eventId AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED")
+    List<Object[]> findAcceptedExtremes(@Param("eventId") Integer eventId);
+
+    @Query("SELECT a.id, p.id, u.fullName, u.email, a.status, d.name " + "FROM EventAttendance a JOIN a.participant p JOIN p.user u LEFT JOIN p.department d " + "WHERE a.event.id = :eventId AND a.id > :afterId ORDER BY a.id")
+    List<Object[]> findAttendeesByEventId(@Param("eventId") Integer eventId, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT p.id, u.fullName, u.email, d.name " + "FROM EventAttendance a JOIN a.participant p JOIN p.user u LEFT JOIN p.department d " + "WHERE a.event.id = :eventId AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED ORDER BY a.id")
+    List<Object[]> findAcceptedParticipantsByEventId(@Param("eventId") Integer eventId);
+
+    @Query("SELECT a.event.id, p.gender, COUNT(a.id) " + "FROM EventAttendance a " + "JOIN a.participant p " + "WHERE a.event.id IN :eventIds AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED " + "GROUP BY a.event.id, p.gender")
+    List<Object[]> countAcceptedParticipantsByGender(@Param("eventIds") List<Integer> eventIds);
 
 }
@@ -1,15 +1,101 @@
 package com.app.attendify.event.repository;
 
 import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.Department;
+import com.app.attendify.event.dto.EventSummaryDTO;
 import com.app.attendify.event.model.Event;
+import com.app.attendify.eventOrganizer.model.EventOrganizer;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Integer> {
+
+    @EntityGraph("Event.withAgenda")
+    Optional<Event> findWithAgendaById(Integer id);
+
+    @EntityGraph("Event.summary")
+    Optional<Event> findSummaryById(Integer id);
+
+    @Query("SELECT e.id, e.name, e.description, e.location, e.eventStartDate, e.eventEndDate, e.joinDeadline, u.fullName, e.pendingCount, e.attendeeLimit, e.availableForAllDepartments " + "FROM Event e LEFT JOIN e.organizer o LEFT JOIN o.user u WHERE e.id = :eventId")
+    List<Object[]> findDetailById(@Param("eventId") Integer eventId);
+
     List<Event> findByCompany(Company company);
 
     @Query("SELECT e FROM Event e WHERE e.availableForAllDepartments = true")
     List<Event> findByAvailableForAllDepartmentsTrue();
+
+    @Query("SELECT e.id, e.name, e.description, e.location, e.eventStartDate, e.eventEndDate, u.fullName, e.attendeeLimit " + "FROM Event e LEFT JOIN e.organizer o LEFT JOIN o.user u " + "WHERE e.company.id = :companyId AND e.availableForAllDepartments = true ORDER BY e.eventStartDate DESC, e.id DESC")
+    List<Object[]> findRecentCompanyWideEvents(@Param("companyId") Integer companyId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.company.id = :companyId AND e.availableForAllDepartments = true")
+    long countCompanyWideEvents(@Param("companyId") Integer companyId);
+
+    @Query("SELECT new com.app.attendify.event.dto.EventSummaryDTO(e.id, e.name, e.description, e.location, c.name, u.fullName, e.attendeeLimit, e.eventStartDate, e.eventEndDate, e.joinDeadline, e.joinApproval, e.availableForAllDepartments, e.acceptedCount, e.pendingCount) " + "FROM Event e LEFT JOIN e.company c LEFT JOIN e.organizer o LEFT JOIN o.user u " + "WHERE e.organizer = :organizer AND e.eventStartDate BETWEEN :start AND :end AND e.id > :afterId " + "AND (:allDepartments = true OR e.availableForAllDepartments = true OR EXISTS (SELECT d.id FROM e.departments d WHERE d.id IN :departmentIds)) ORDER BY e.id")
+    List<EventSummaryDTO> findSummariesByOrganizer(@Param("organizer") EventOrganizer organizer, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("allDepartments") boolean allDepartments, @Param("departmentIds") List<Integer> departmentIds, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(e), " + "SUM(CASE WHEN e.eventStartDate BETWEEN :weekStart AND :weekEnd THEN 1 ELSE 0 END), " + "SUM(CASE WHEN e.eventStartDate BETWEEN :monthStart AND :monthEnd THEN 1 ELSE 0 END), " + "SUM(e.acceptedCount), " + "SUM(CASE WHEN e.eventStartDate BETWEEN :weekStart AND :weekEnd THEN e.acceptedCount ELSE 0 END), " + "SUM(CASE WHEN e.eventStartDate BETWEEN :monthStart AND :monthEnd THEN e.acceptedCount ELSE 0 END) " + "FROM Event e WHERE e.organizer = :organizer")
+    List<Object[]> summarizeByOrganizer(@Param("organizer") EventOrganizer organizer, @Param("weekStart") LocalDateTime weekStart, @Param("weekEnd") LocalDateTime weekEnd, @Param("monthStart") LocalDateTime monthStart, @Param("monthEnd") LocalDateTime monthEnd);
+
+    @Query("SELECT a.event.id, a.id, a.title, a.description, a.startTime, a.endTime FROM AgendaItem a WHERE a.event.id IN :eventIds ORDER BY a.id")
+    List<Object[]> findAgendaItemsByEventIds(@Param("eventIds") List<Integer> eventIds);
+
+    @Query("SELECT e.availableForAllDepartments, d.name FROM Event e LEFT JOIN e.departments d WHERE e.id = :eventId")
+    List<Object[]> findDepartmentScopeById(@Param("eventId") Integer eventId);
+
+    @Query("SELECT e.id, d.id, d.name FROM Event e JOIN e.departments d WHERE e.id IN :eventIds")
+    List<Object[]> findDepartmentsByEventIds(@Param("eventIds") List<Integer> eventIds);
+
+    boolean existsByIdAndOrganizer_Id(Integer id, Integer organizerId);
+
+    @Query("SELECT e FROM Event e WHERE e.company = :company AND (e.availableForAllDepartments = true OR :department MEMBER OF e.departments) AND e.id > :afterId ORDER BY e.id")
+    List<Event> findVisibleToDepartment(@Param("company") Company company, @Param("department") Department department, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.company = :company AND (e.availableForAllDepartments = true OR :department MEMBER OF e.departments)")
+    long countVisibleToDepartment(@Param("company") Company company, @Param("department") Department department);
+
+    @Query("SELECT e FROM Event e WHERE e.company = :company AND (e.availableForAllDepartments = true OR :department MEMBER OF e.departments) AND e.eventStartDate BETWEEN :start AND :end AND e.id > :afterId ORDER BY e.id")
+    List<Event> findVisibleToDepartmentBetween(@Param("company") Company company, @Param("department") Department department, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.company = :company AND (e.availableForAllDepartments = true OR :department MEMBER OF e.departments) AND e.eventStartDate BETWEEN :start AND :end")
+    long countVisibleToDepartmentBetween(@Param("company") Company company, @Param("department") Department department, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT e FROM Event e JOIN e.eventAttendances a WHERE a.participant = :participant AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED AND e.eventStartDate > :now AND e.id > :afterId ORDER BY e.id")
+    List<Event> findUpcomingAcceptedByParticipant(@Param("participant") EventParticipant participant, @Param("now") LocalDateTime now, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Event e JOIN e.eventAttendances a WHERE a.participant = :participant AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED AND e.eventStartDate > :now")
+    long countUpcomingAcceptedByParticipant(@Param("participant") EventParticipant participant, @Param("now") LocalDateTime now);
+
+    @Query("SELECT e.id FROM Event e WHERE e.company.id = :companyId AND e.id > :afterId AND e.eventStartDate >= :from AND e.eventStartDate < :to ORDER BY e.id")
+    List<Integer> findIdsByCompanyAfter(@Param("companyId") Integer companyId, @Param("afterId") Integer afterId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.acceptedCount = e.acceptedCount + :delta WHERE e.id = :eventId")
+    int adjustAcceptedCount(@Param("eventId") Integer eventId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.acceptedCount = e.acceptedCount + 1 WHERE e.id = :eventId AND (e.attendeeLimit IS NULL OR e.acceptedCount < e.attendeeLimit)")
+    int reserveSeat(@Param("eventId") Integer eventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.acceptedCount FROM Event e WHERE e.id = :eventId")
+    Optional<Integer> lockAcceptedCount(@Param("eventId") Integer eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.pendingCount = e.pendingCount + :delta WHERE e.id = :eventId")
+    int adjustPendingCount(@Param("eventId") Integer eventId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.acceptedCount = (SELECT COUNT(a) FROM EventAttendance a WHERE a.event = e AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED), " + "e.pendingCount = (SELECT COUNT(a) FROM EventAttendance a WHERE a.event = e AND a.status = com.app.attendify.event.enums.AttendanceStatus.PENDING)")
+    int reconcileAttendanceCounters();
 }
@@ -0,0 +1,24 @@
+package com.app.attendify.event.repository;
+
+import com.app.attendify.event.model.EventStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EventStatsRepository extends JpaRepository<EventStats, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventStats s WHERE s.eventId = :eventId")
+    Optional<EventStats> findForUpdate(@Param("eventId") Integer eventId);
+
+    @Query("SELECT s.extremesStale FROM EventStats s WHERE s.eventId = :eventId")
+    Optional<Boolean> findExtremesStale(@Param("eventId") Integer eventId);
+
+    @Query("SELECT s.eventId FROM EventStats s ORDER BY s.eventId")
+    List<Integer> findAllEventIds();
+}
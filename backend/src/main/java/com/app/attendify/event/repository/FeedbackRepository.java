@@ -2,8 +2,12 @@ package com.app.attendify.event.repository;
 
 import com.app.attendify.event.model.Feedback;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,7 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Integer> {
     boolean existsByEventIdAndParticipantId(Integer eventId, Integer participantId);
 
     Optional<Feedback> findByEventIdAndParticipantId(Integer eventId, Integer participantId);
+
+    @Query("SELECT f.event.id, f.comments, f.rating FROM Feedback f WHERE f.participant.id = :participantId AND f.event.id IN :eventIds")
+    List<Object[]> findByParticipantIdAndEventIds(@Param("participantId") Integer participantId, @Param("eventIds") Collection<Integer> eventIds);
 }
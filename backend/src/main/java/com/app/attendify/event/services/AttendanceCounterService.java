@@ -0,0 +1,59 @@
+package com.app.attendify.event.services;
+
+import com.app.attendify.event.enums.AttendanceStatus;
+import com.app.attendify.event.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AttendanceCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceCounterService.class);
+
+    private final EventRepository eventRepository;
+
+    @Autowired
+    public AttendanceCounterService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChange(Integer eventId, AttendanceStatus oldStatus, AttendanceStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        adjust(eventId, oldStatus, -1);
+        if (newStatus == AttendanceStatus.ACCEPTED) {
+            if (!tryReserveSeat(eventId)) {
+                throw new IllegalStateException("This event has reached its attendee limit.");
+            }
+        } else {
+            adjust(eventId, newStatus, 1);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserveSeat(Integer eventId) {
+        return eventRepository.reserveSeat(eventId) == 1;
+    }
+
+    @Scheduled(cron = "${attendify.counters.reconcile-cron:0 0 3 * * *}")
+    @Transactional
+    public void reconcileCounters() {
+        int updated = eventRepository.reconcileAttendanceCounters();
+        logger.info("Reconciled attendance counters for {} events", updated);
+    }
+
+    private void adjust(Integer eventId, AttendanceStatus status, int delta) {
+        if (status == AttendanceStatus.ACCEPTED) {
+            eventRepository.adjustAcceptedCount(eventId, delta);
+        } else if (status == AttendanceStatus.PENDING) {
+            eventRepository.adjustPendingCount(eventId, delta);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.app.attendify.event.services;
+
+import com.app.attendify.event.dto.EventDetailDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Service
+public class EventDetailCache {
+
+    private final Cache<Integer, EventDetailDTO> cache;
+
+    @Autowired
+    public EventDetailCache(@Value("${attendify.event-details.cache.maximum-size:10000}") long maximumSize, @Value("${attendify.event-details.cache.ttl:PT5M}") Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "eventDetails");
+    }
+
+    public EventDetailDTO get(Integer eventId, Function<Integer, EventDetailDTO> loader) {
+        return cache.get(eventId, loader);
+    }
+
+    public void evict(Integer eventId) {
+        cache.invalidate(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(eventId);
+                }
+            });
+        }
+    }
+}
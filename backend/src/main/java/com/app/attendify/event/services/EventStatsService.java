@@ -0,0 +1,117 @@
+package com.app.attendify.event.services;
+
+import com.app.attendify.event.enums.AttendanceStatus;
+import com.app.attendify.event.model.EventStats;
+import com.app.attendify.event.repository.EventAttendanceRepository;
+import com.app.attendify.event.repository.EventStatsRepository;
+import com.app.attendify.eventParticipant.enums.EducationLevel;
+import com.app.attendify.eventParticipant.enums.Gender;
+import com.app.attendify.eventParticipant.enums.Occupation;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class EventStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventStatsService.class);
+
+    private final EventStatsRepository eventStatsRepository;
+    private final EventAttendanceRepository eventAttendanceRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    @Autowired
+    public EventStatsService(EventStatsRepository eventStatsRepository, EventAttendanceRepository eventAttendanceRepository, EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.eventStatsRepository = eventStatsRepository;
+        this.eventAttendanceRepository = eventAttendanceRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createFor(Integer eventId) {
+        eventStatsRepository.save(new EventStats(eventId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStatusChange(Integer eventId, EventParticipant participant, AttendanceStatus oldStatus, AttendanceStatus newStatus) {
+        boolean wasAccepted = oldStatus == AttendanceStatus.ACCEPTED;
+        boolean isAccepted = newStatus == AttendanceStatus.ACCEPTED;
+        if (wasAccepted == isAccepted) {
+            return;
+        }
+
+        EventStats stats = eventStatsRepository.findForUpdate(eventId).orElseGet(() -> createAndLock(eventId));
+        if (isAccepted) {
+            stats.add(participant);
+        } else {
+            stats.remove(participant);
+        }
+    }
+
+    @Transactional
+    public EventStats getStats(Integer eventId) {
+        Optional<Boolean> extremesStale = eventStatsRepository.findExtremesStale(eventId);
+        if (extremesStale.isEmpty()) {
+            return rebuild(eventId);
+        }
+        if (!extremesStale.get()) {
+            return eventStatsRepository.findById(eventId).orElseThrow(() -> new IllegalStateException("Statistics rollup disappeared for event " + eventId));
+        }
+
+        EventStats stats = eventStatsRepository.findForUpdate(eventId).orElseThrow(() -> new IllegalStateException("Statistics rollup disappeared for event " + eventId));
+        if (stats.isExtremesStale()) {
+            Object[] extremes = eventAttendanceRepository.findAcceptedExtremes(eventId).get(0);
+            stats.updateExtremes((Integer) extremes[0], (Integer) extremes[1], (Integer) extremes[2], (Integer) extremes[3]);
+        }
+        return stats;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteFor(Integer eventId) {
+        eventStatsRepository.findById(eventId).ifPresent(eventStatsRepository::delete);
+    }
+
+    @Scheduled(cron = "${attendify.event-stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        List<Integer> eventIds = eventStatsRepository.findAllEventIds();
+        for (Integer eventId : eventIds) {
+            transactionTemplate.executeWithoutResult(status -> eventStatsRepository.findForUpdate(eventId).ifPresent(stats -> stats.replaceWith(rebuild(eventId))));
+        }
+        logger.info("Rebuilt statistics rollups for {} events", eventIds.size());
+    }
+
+    private EventStats createAndLock(Integer eventId) {
+        logger.info("No statistics rollup for event {}, rebuilding from committed attendances", eventId);
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> entityManager.persist(rebuild(eventId)));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Statistics rollup for event {} was created concurrently", eventId);
+        }
+        return eventStatsRepository.findForUpdate(eventId).orElseThrow(() -> new IllegalStateException("Statistics rollup disappeared for event " + eventId));
+    }
+
+    private EventStats rebuild(Integer eventId) {
+        EventStats stats = new EventStats(eventId);
+        for (Object[] row : eventAttendanceRepository.aggregateAcceptedDemographics(eventId)) {
+            stats.addGroup((Gender) row[0], (EducationLevel) row[1], (Occupation) row[2], (String) row[3], ((Number) row[4]).longValue(), ((Number) row[5]).longValue(), ((Number) row[6]).intValue(), ((Number) row[7]).intValue(), ((Number) row[8]).longValue(), ((Number) row[9]).intValue(), ((Number) row[10]).intValue());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,106 @@
+package com.app.attendify.event.services;
+
+import com.app.attendify.event.enums.AttendanceStatus;
+import com.app.attendify.event.model.Event;
+import com.app.attendify.event.model.EventAttendance;
+import com.app.attendify.event.repository.EventAttendanceRepository;
+import com.app.attendify.event.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+public class WaitlistService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final EventAttendanceRepository eventAttendanceRepository;
+    private final EventRepository eventRepository;
+    private final AttendanceCounterService attendanceCounterService;
+    private final EventStatsService eventStatsService;
+
+    @Autowired
+    public WaitlistService(EventAttendanceRepository eventAttendanceRepository, EventRepository eventRepository, AttendanceCounterService attendanceCounterService, EventStatsService eventStatsService) {
+        this.eventAttendanceRepository = eventAttendanceRepository;
+        this.eventRepository = eventRepository;
+        this.attendanceCounterService = attendanceCounterService;
+        this.eventStatsService = eventStatsService;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AttendanceStatus admit(Event event) {
+        if (event.isJoinApproval()) {
+            if (event.getAttendeeLimit() != null && event.getAvailableSlots() <= 0) {
+                return AttendanceStatus.WAITLISTED;
+            }
+            attendanceCounterService.onStatusChange(event.getId(), null, AttendanceStatus.PENDING);
+            return AttendanceStatus.PENDING;
+        }
+
+        return attendanceCounterService.tryReserveSeat(event.getId()) ? AttendanceStatus.ACCEPTED : AttendanceStatus.WAITLISTED;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseSeat(Event event) {
+        eventRepository.lockAcceptedCount(event.getId());
+
+        if (!event.isJoinApproval()) {
+            Optional<EventAttendance> next = eventAttendanceRepository.findFirstByEventIdAndStatusOrderByIdAsc(event.getId(), AttendanceStatus.WAITLISTED);
+            if (next.isPresent()) {
+                promote(event, next.get(), AttendanceStatus.ACCEPTED);
+                return;
+            }
+        }
+
+        attendanceCounterService.onStatusChange(event.getId(), AttendanceStatus.ACCEPTED, null);
+        promoteNext(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fillFreeSeats(Event event) {
+        int acceptedCount = eventRepository.lockAcceptedCount(event.getId()).orElse(0);
+        int freeSeats = event.getAttendeeLimit() != null ? event.getAttendeeLimit() - acceptedCount : Integer.MAX_VALUE;
+
+        int promoted = 0;
+        while (promoted < freeSeats && promoteNext(event)) {
+            promoted++;
+        }
+        if (promoted > 0) {
+            logger.info("Promoted {} waitlisted attendances for event {} after capacity change", promoted, event.getId());
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean promoteNext(Event event) {
+        Optional<EventAttendance> next = eventAttendanceRepository.findFirstByEventIdAndStatusOrderByIdAsc(event.getId(), AttendanceStatus.WAITLISTED);
+        if (next.isEmpty()) {
+            return false;
+        }
+
+        AttendanceStatus promotedStatus;
+        if (event.isJoinApproval()) {
+            attendanceCounterService.onStatusChange(event.getId(), null, AttendanceStatus.PENDING);
+            promotedStatus = AttendanceStatus.PENDING;
+        } else if (attendanceCounterService.tryReserveSeat(event.getId())) {
+            promotedStatus = AttendanceStatus.ACCEPTED;
+        } else {
+            return false;
+        }
+
+        promote(event, next.get(), promotedStatus);
+        return true;
+    }
+
+    private void promote(Event event, EventAttendance attendance, AttendanceStatus promotedStatus) {
+        attendance.setStatus(promotedStatus);
+        eventAttendanceRepository.save(attendance);
+        eventStatsService.onStatusChange(event.getId(), attendance.getParticipant(), AttendanceStatus.WAITLISTED, promotedStatus);
+
+        logger.info("Promoted attendance {} for event {} from waitlist to {}", attendance.getId(), event.getId(), promotedStatus);
+    }
+}
@@ -9,9 +9,11 @@ import com.app.attendify.eventOrganizer.model.EventOrganizer;
 import com.app.attendify.eventOrganizer.services.EventOrganizerService;
 import com.app.attendify.eventParticipant.dto.EventAttendanceDTO;
 import com.app.attendify.eventParticipant.dto.EventParticipantDTO;
-import com.app.attendify.eventParticipant.enums.Gender;
+import com.app.attendify.eventParticipant.dto.ParticipantDirectoryPageDTO;
 import com.app.attendify.security.model.User;
+import com.app.attendify.utils.CursorPage;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,8 +23,8 @@ import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequestMapping("/api/auth/event-organizer")
@@ -47,10 +49,12 @@ public class EventOrganizerController {
 
     @GetMapping("/my-events")
     @PreAuthorize("hasRole('EVENT_ORGANIZER')")
-    public ResponseEntity<EventFilterSummaryForOrganizerDTO> getOrganizerEvents(@RequestParam(required = false) String filter, @RequestParam(required = false) List<Integer> departmentIds) {
+    public ResponseEntity<EventFilterSummaryForOrganizerDTO> getOrganizerEvents(@RequestParam(required = false) String filter, @RequestParam(required = false) List<Integer> departmentIds, @RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
         try {
-            EventFilterSummaryForOrganizerDTO summary = eventOrganizerService.getEventsByOrganizer(filter, departmentIds);
-            return ResponseEntity.ok(summary);
+            CursorPage<EventFilterSummaryForOrganizerDTO> summary = eventOrganizerService.getEventsByOrganizer(filter, departmentIds, sort, cursor, size);
+            return summary.toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error retrieving events", e);
             return ResponseEntity.status(500).body(null);
@@ -92,10 +96,12 @@ public class EventOrganizerController {
 
     @GetMapping("/my-events/{eventId}/participants")
     @PreAuthorize("hasRole('EVENT_ORGANIZER')")
-    public ResponseEntity<List<EventAttendanceDTO>> getEventParticipants(@PathVariable int eventId) {
+    public ResponseEntity<List<EventAttendanceDTO>> getEventParticipants(@PathVariable int eventId, @RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
         try {
-            List<EventAttendanceDTO> participants = eventOrganizerService.getParticipantsByEvent(eventId);
-            return ResponseEntity.ok(participants);
+            CursorPage<List<EventAttendanceDTO>> participants = eventOrganizerService.getParticipantsByEvent(eventId, sort, cursor, size);
+            return participants.toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error retrieving participants for event", e);
             return ResponseEntity.status(500).body(null);
@@ -173,19 +179,33 @@ public class EventOrganizerController {
 
     @GetMapping("/company/participants")
     @PreAuthorize("hasRole('EVENT_ORGANIZER')")
-    public ResponseEntity<List<EventParticipantDTO>> getParticipantsByCompany() {
+    public ResponseEntity<List<EventParticipantDTO>> getParticipantsByCompany(@RequestParam(defaultValue = "name") String sort, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
         try {
-            List<EventParticipantDTO> participants = eventOrganizerService.getParticipantsByCompany();
-            return ResponseEntity.ok(participants);
+            CursorPage<List<EventParticipantDTO>> participants = eventOrganizerService.getParticipantsByCompany(sort, cursor, size);
+            return participants.toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error retrieving participants for organizer's company", e);
             return ResponseEntity.status(500).body(null);
         }
     }
 
+    @GetMapping("/company/participants/directory")
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<?> getParticipantDirectory(@RequestParam(required = false) String search, @RequestParam(defaultValue = "name") String sort, @RequestParam(defaultValue = "asc") String direction, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "50") int size) {
+        try {
+            ParticipantDirectoryPageDTO directory = eventOrganizerService.getParticipantDirectory(search, sort, direction, page, size);
+            return ResponseEntity.ok(directory);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/statistics/gender")
-    public ResponseEntity<Map<Integer, Map<Gender, Long>>> getGenderStatistics() {
-        Map<Integer, Map<Gender, Long>> statistics = eventOrganizerService.getGenderStatistics();
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<GenderStatisticsPageDTO> getGenderStatistics(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from, @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to, @RequestParam(required = false) Integer afterId, @RequestParam(defaultValue = "50") int size) {
+        GenderStatisticsPageDTO statistics = eventOrganizerService.getGenderStatistics(from, to, afterId, size);
         return ResponseEntity.ok(statistics);
     }
 
@@ -203,16 +223,25 @@ public class EventOrganizerController {
 
     @GetMapping("/company/departments")
     @PreAuthorize("hasRole('EVENT_ORGANIZER')")
-    public ResponseEntity<List<DepartmentDto>> getDepartmentsByCompany() {
+    public ResponseEntity<List<DepartmentDto>> getDepartmentsByCompany(@RequestParam(defaultValue = "name") String sort, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
         try {
-            List<DepartmentDto> departments = eventOrganizerService.getDepartmentsByCompany();
-            return ResponseEntity.ok(departments);
+            CursorPage<List<DepartmentDto>> departments = eventOrganizerService.getDepartmentsByCompany(sort, cursor, size);
+            return departments.toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error retrieving departments for organizer's company", e);
             return ResponseEntity.status(500).body(null);
         }
     }
 
+    @GetMapping("/company/departments/{departmentId}/participants")
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<ParticipantDirectoryPageDTO> getDepartmentParticipants(@PathVariable Integer departmentId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "50") int size) {
+        ParticipantDirectoryPageDTO participants = eventOrganizerService.getDepartmentParticipants(departmentId, page, size);
+        return ResponseEntity.ok(participants);
+    }
+
     @PostMapping("/{companyId}/add-departments")
     public ResponseEntity<Void> addDepartments(@PathVariable Integer companyId, @RequestBody List<String> departmentNames) {
         try {
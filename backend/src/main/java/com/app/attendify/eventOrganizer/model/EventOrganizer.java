@@ -4,14 +4,19 @@ import com.app.attendify.company.model.Company;
 import com.app.attendify.event.model.Event;
 import com.app.attendify.security.model.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventOrganizers")
 @Entity
 public class EventOrganizer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_organizer_seq")
+    @SequenceGenerator(name = "event_organizer_seq", sequenceName = "event_organizer_seq", allocationSize = 50)
     private Integer id;
 
     @OneToOne
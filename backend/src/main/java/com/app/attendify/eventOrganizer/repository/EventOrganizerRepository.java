@@ -3,8 +3,10 @@ package com.app.attendify.eventOrganizer.repository;
 import com.app.attendify.event.model.Event;
 import com.app.attendify.eventOrganizer.model.EventOrganizer;
 import com.app.attendify.security.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +19,9 @@ public interface EventOrganizerRepository extends JpaRepository<EventOrganizer,
 
     Optional<EventOrganizer> findByUser(User user);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    Optional<EventOrganizer> findByUser_Id(Integer userId);
+
     @Query("SELECT e FROM Event e WHERE e.organizer = :organizer AND e.eventStartDate BETWEEN :startOfWeek AND :endOfWeek ORDER BY e.eventStartDate ASC")
     List<Event> findUpcomingEventsForOrganizer(@Param("organizer") EventOrganizer organizer, @Param("startOfWeek") LocalDateTime startOfWeek, @Param("endOfWeek") LocalDateTime endOfWeek);
 
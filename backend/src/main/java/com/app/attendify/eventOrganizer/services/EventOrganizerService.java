@@ -6,7 +6,11 @@ import com.app.attendify.company.model.Department;
 import com.app.attendify.company.repository.DepartmentRepository;
 import com.app.attendify.event.dto.*;
 import com.app.attendify.event.model.AgendaItem;
+import com.app.attendify.event.services.AttendanceCounterService;
+import com.app.attendify.event.services.EventDetailCache;
+import com.app.attendify.event.services.EventStatsService;
 import com.app.attendify.event.services.StatisticsService;
+import com.app.attendify.event.services.WaitlistService;
 import com.app.attendify.event.validation.EventValidation;
 import com.app.attendify.eventOrganizer.dto.EventForOrganizersDTO;
 import com.app.attendify.event.enums.AttendanceStatus;
@@ -19,15 +23,20 @@ import com.app.attendify.eventOrganizer.repository.EventOrganizerRepository;
 import com.app.attendify.eventParticipant.dto.EventAttendanceDTO;
 import com.app.attendify.eventParticipant.dto.EventParticipantDTO;
 import com.app.attendify.eventParticipant.dto.ParticipantDTO;
+import com.app.attendify.eventParticipant.dto.ParticipantDirectoryPageDTO;
 import com.app.attendify.eventParticipant.enums.Gender;
 import com.app.attendify.eventParticipant.model.EventParticipant;
-import com.app.attendify.security.model.User;
-import com.app.attendify.security.repositories.UserRepository;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.security.services.CurrentActor;
+import com.app.attendify.utils.CursorPage;
+import com.app.attendify.utils.DateRange;
 import com.app.attendify.utils.EventFilterUtil;
+import com.app.attendify.utils.PageCursor;
 import com.app.attendify.utils.TimeZoneConversionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -45,30 +54,49 @@ public class EventOrganizerService {
 
     private static final Logger logger = LoggerFactory.getLogger(EventOrganizerService.class);
 
+    private static final int MAX_GENDER_STATISTICS_PAGE_SIZE = 100;
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 200;
+    private static final int EVENT_LINK_BATCH_SIZE = 1000;
+    private static final int MAX_DEPARTMENT_PAGE_SIZE = 100;
+    private static final int MAX_LIST_PAGE_SIZE = 500;
+    private static final int DEPARTMENT_PREVIEW_SIZE = 5;
+    private static final int DEPARTMENT_RECENT_EVENTS = 10;
+    private static final Map<String, String> DIRECTORY_SORT_PROPERTIES = Map.of("name", "fullName", "email", "email", "department", "departmentName", "joinedEvents", "joinedEventCount");
+
     private final EventOrganizerRepository eventOrganizerRepository;
     private final EventRepository eventRepository;
-    private final UserRepository userRepository;
+    private final CurrentActor currentActor;
     private final EventAttendanceRepository eventAttendanceRepository;
     private final EventValidation eventValidation;
     private final TimeZoneConversionUtil timeZoneConversionUtil;
     private final EventFilterUtil eventFilterUtil;
     private final StatisticsService statisticsService;
     private final DepartmentRepository departmentRepository;
+    private final AttendanceCounterService attendanceCounterService;
+    private final WaitlistService waitlistService;
+    private final EventStatsService eventStatsService;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventDetailCache eventDetailCache;
 
     @Autowired
-    public EventOrganizerService(EventOrganizerRepository eventOrganizerRepository, EventRepository eventRepository, UserRepository userRepository, EventAttendanceRepository eventAttendanceRepository, EventValidation eventValidation, TimeZoneConversionUtil timeZoneConversionUtil, EventFilterUtil eventFilterUtil, StatisticsService statisticsService, DepartmentRepository departmentRepository) {
+    public EventOrganizerService(EventOrganizerRepository eventOrganizerRepository, EventRepository eventRepository, CurrentActor currentActor, EventAttendanceRepository eventAttendanceRepository, EventValidation eventValidation, TimeZoneConversionUtil timeZoneConversionUtil, EventFilterUtil eventFilterUtil, StatisticsService statisticsService, DepartmentRepository departmentRepository, AttendanceCounterService attendanceCounterService, WaitlistService waitlistService, EventStatsService eventStatsService, EventParticipantRepository eventParticipantRepository, EventDetailCache eventDetailCache) {
         this.eventOrganizerRepository = eventOrganizerRepository;
         this.eventRepository = eventRepository;
-        this.userRepository = userRepository;
+        this.currentActor = currentActor;
         this.eventAttendanceRepository = eventAttendanceRepository;
         this.eventValidation = eventValidation;
         this.timeZoneConversionUtil = timeZoneConversionUtil;
         this.eventFilterUtil = eventFilterUtil;
         this.statisticsService = statisticsService;
         this.departmentRepository = departmentRepository;
+        this.attendanceCounterService = attendanceCounterService;
+        this.waitlistService = waitlistService;
+        this.eventStatsService = eventStatsService;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.eventDetailCache = eventDetailCache;
     }
 
-
+    @Transactional
     public Event createEvent(CreateEventRequest request) {
         try {
             logger.info("Received request to create event: {}", request);
@@ -121,6 +149,7 @@ public class EventOrganizerService {
             logger.info("Event validation passed");
 
             Event savedEvent = eventRepository.save(event);
+            eventStatsService.createFor(savedEvent.getId());
             logger.info("Event created successfully: {}", savedEvent);
 
             return savedEvent;
@@ -135,29 +164,18 @@ public class EventOrganizerService {
         try {
             eventValidation.validateEventDatesBeforeUpdate(request);
 
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            Event event = eventRepository.findWithAgendaById(eventId).orElseThrow(() -> {
                 logger.error("Event not found for ID: {}", eventId);
                 return new IllegalArgumentException("Event not found");
             });
 
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
+            EventOrganizer organizer = currentActor.getOrganizer();
 
-            if (!event.getOrganizer().equals(organizer)) {
+            if (!event.getOrganizer().getId().equals(organizer.getId())) {
                 throw new IllegalArgumentException("Event does not belong to the current organizer");
             }
 
-            int currentJoinedParticipants = event.getParticipantEvents().size();
-            if (request.getAttendeeLimit() != null && request.getAttendeeLimit() < currentJoinedParticipants) {
+            if (request.getAttendeeLimit() != null && request.getAttendeeLimit() < event.getAcceptedCount()) {
                 throw new IllegalArgumentException("Attendee limit cannot be lower than the current number of joined participants");
             }
 
@@ -195,7 +213,10 @@ public class EventOrganizerService {
 
             event.setName(request.getName()).setDescription(request.getDescription()).setLocation(request.getLocation()).setAttendeeLimit(attendeeLimit).setEventStartDate(eventLocalDateTime).setEventEndDate(eventEndDateLocalDateTime).setJoinDeadline(request.getJoinDeadline()).setJoinApproval(request.isJoinApproval());
 
-            return eventRepository.save(event);
+            Event savedEvent = eventRepository.save(event);
+            waitlistService.fillFreeSeats(savedEvent);
+            eventDetailCache.evict(eventId);
+            return savedEvent;
         } catch (Exception e) {
             logger.error("Error updating event", e);
             throw new RuntimeException("Error updating event", e);
@@ -205,30 +226,21 @@ public class EventOrganizerService {
     @Transactional
     public void deleteEvent(int eventId) {
         try {
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            logger.info("Deleting event for organizer: {}", email);
-
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
+            EventOrganizer organizer = currentActor.getOrganizer();
+            logger.info("Deleting event for organizer ID: {}", organizer.getId());
 
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            Event event = eventRepository.findSummaryById(eventId).orElseThrow(() -> {
                 logger.error("Event not found for ID: {}", eventId);
                 return new IllegalArgumentException("Event not found");
             });
 
-            if (!event.getOrganizer().equals(organizer)) {
+            if (!event.getOrganizer().getId().equals(organizer.getId())) {
                 throw new IllegalArgumentException("Event does not belong to the current organizer");
             }
 
+            eventStatsService.deleteFor(eventId);
             eventRepository.delete(event);
+            eventDetailCache.evict(eventId);
             logger.info("Event with ID: {} deleted successfully", eventId);
         } catch (Exception e) {
             logger.error("Error deleting event", e);
@@ -236,43 +248,40 @@ public class EventOrganizerService {
         }
     }
 
-    @Transactional
-    public List<EventAttendanceDTO> getParticipantsByEvent(int eventId) {
+    @Transactional(readOnly = true)
+    public CursorPage<List<EventAttendanceDTO>> getParticipantsByEvent(int eventId, String sort, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor, sort, "id");
+        Pageable pageable = CursorPage.pageRequest(cursor, size, MAX_LIST_PAGE_SIZE);
         try {
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            if (!eventRepository.existsById(eventId)) {
                 logger.error("Event not found for ID: {}", eventId);
-                return new IllegalArgumentException("Event not found");
-            });
-
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
+                throw new IllegalArgumentException("Event not found");
+            }
 
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
+            EventOrganizer organizer = currentActor.getOrganizer();
 
-            if (!event.getOrganizer().equals(organizer)) {
+            if (!eventRepository.existsByIdAndOrganizer_Id(eventId, organizer.getId())) {
                 throw new IllegalArgumentException("Event does not belong to the current organizer");
             }
 
-            return event.getParticipantEvents().stream().map(participantEvent -> {
-                EventParticipant participant = participantEvent.getParticipant();
-                int participantId = participant.getId();
-                String participantName = participant.getUser().getFullName();
-                String participantEmail = participant.getUser().getEmail();
-                AttendanceStatus status = participantEvent.getStatus();
+            List<Object[]> fetched = eventAttendanceRepository.findAttendeesByEventId(eventId, pageCursor.id(), pageable);
+            List<Object[]> rows = CursorPage.trim(fetched, pageable);
+            String nextCursor = rows.size() < fetched.size() ? pageCursor.next(null, (Integer) rows.get(rows.size() - 1)[0]).encode() : null;
+
+            List<EventAttendanceDTO> participants = rows.stream().map(row -> {
+                int participantId = (Integer) row[1];
+                String participantName = (String) row[2];
+                String participantEmail = (String) row[3];
+                AttendanceStatus status = (AttendanceStatus) row[4];
 
-                String departmentName = participant.getDepartment() != null ? participant.getDepartment().getName() : "No Department";
+                String departmentName = row[5] != null ? (String) row[5] : "No Department";
 
                 logger.info("Participant details - ID: {}, Name: {}, Email: {}, Status: {}, Department: {}", participantId, participantName, participantEmail, status, departmentName);
 
                 return new EventAttendanceDTO(participantName, participantEmail, participantId, status, departmentName);
             }).collect(Collectors.toList());
+
+            return new CursorPage<>(participants, nextCursor);
         } catch (Exception e) {
             logger.error("Error retrieving participants for event", e);
             throw new RuntimeException("Error retrieving participants for event", e);
@@ -281,17 +290,7 @@ public class EventOrganizerService {
 
     @Transactional
     public List<UpcomingEventDTO> getUpcomingEventsForCurrentUser() {
-        UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String email = currentUser.getUsername();
-
-        User user = userRepository.findByEmail(email).orElseThrow(() -> {
-            return new IllegalArgumentException("User not found for email: " + email);
-        });
-        logger.info("User found: {}", user.getId());
-
-        EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-            return new IllegalArgumentException("Event organizer not found for user: " + email);
-        });
+        EventOrganizer organizer = currentActor.getOrganizer();
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toLocalDate().atStartOfDay();
@@ -311,19 +310,8 @@ public class EventOrganizerService {
 
     @Transactional
     public List<UpcomingEventDTO> getPastMonthEventsForCurrentUser() {
-        UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String email = currentUser.getUsername();
-        logger.info("Fetching past month's events for user with email: {}", email);
-
-        User user = userRepository.findByEmail(email).orElseThrow(() -> {
-            throw new IllegalArgumentException("User not found for email: " + email);
-        });
-        logger.info("User found: {} (ID: {})", user.getEmail(), user.getId());
-
-        EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-            throw new IllegalArgumentException("Event organizer not found for user: " + email);
-        });
-        logger.info("Event organizer found: {} (ID: {})", organizer.getId(), organizer.getId());
+        EventOrganizer organizer = currentActor.getOrganizer();
+        logger.info("Fetching past month's events for organizer ID: {}", organizer.getId());
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfMonth = now.minusMonths(1).withDayOfMonth(1).toLocalDate().atStartOfDay();
@@ -348,16 +336,7 @@ public class EventOrganizerService {
 
     @Transactional
     public Long getUniqueParticipantsCountForCurrentUser() {
-        UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String email = currentUser.getUsername();
-
-        User user = userRepository.findByEmail(email).orElseThrow(() -> {
-            return new IllegalArgumentException("User not found for email: " + email);
-        });
-
-        EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-            return new IllegalArgumentException("Event organizer not found for user: " + email);
-        });
+        EventOrganizer organizer = currentActor.getOrganizer();
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toLocalDate().atStartOfDay();
@@ -369,24 +348,14 @@ public class EventOrganizerService {
     @Transactional
     public List<FeedbackOrganizerDTO> getFeedbacksByEvent(int eventId) {
         try {
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            Event event = eventRepository.findSummaryById(eventId).orElseThrow(() -> {
                 logger.error("Event not found for ID: {}", eventId);
                 return new IllegalArgumentException("Event not found");
             });
 
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
+            EventOrganizer organizer = currentActor.getOrganizer();
 
-            if (!event.getOrganizer().equals(organizer)) {
+            if (!event.getOrganizer().getId().equals(organizer.getId())) {
                 throw new IllegalArgumentException("Event does not belong to the current organizer");
             }
 
@@ -400,24 +369,14 @@ public class EventOrganizerService {
     @Transactional
     public FeedbackSummaryDTO getFeedbackSummaryByEvent(int eventId) {
         try {
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            Event event = eventRepository.findSummaryById(eventId).orElseThrow(() -> {
                 logger.error("Event not found for ID: {}", eventId);
                 return new IllegalArgumentException("Event not found");
             });
 
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
+            EventOrganizer organizer = currentActor.getOrganizer();
 
-            if (!event.getOrganizer().equals(organizer)) {
+            if (!event.getOrganizer().getId().equals(organizer.getId())) {
                 throw new IllegalArgumentException("Event does not belong to the current organizer");
             }
 
@@ -434,62 +393,42 @@ public class EventOrganizerService {
     }
 
     @Transactional
-    public EventFilterSummaryForOrganizerDTO getEventsByOrganizer(String filterType, List<Integer> departmentIds) {
+    public CursorPage<EventFilterSummaryForOrganizerDTO> getEventsByOrganizer(String filterType, List<Integer> departmentIds, String sort, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor, sort, "id");
+        Pageable pageable = CursorPage.pageRequest(cursor, size, MAX_LIST_PAGE_SIZE);
         try {
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-            logger.info("Fetching events for organizer: {}", email);
-
-            User user = userRepository.findByEmail(email).orElseThrow(() -> {
-                logger.error("User not found for email: {}", email);
-                return new IllegalArgumentException("User not found");
-            });
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> {
-                logger.error("Event organizer not found for user: {}", email);
-                return new IllegalArgumentException("Organizer not found");
-            });
-
-            List<EventForOrganizersDTO> eventForOrganizersDTOS = organizer.getEvents().stream().map(event -> {
-                List<AgendaItemDTO> agendaItems = event.getAgendaItems().stream().map(agendaItem -> new AgendaItemDTO(agendaItem.getId(), agendaItem.getTitle(), agendaItem.getDescription(), agendaItem.getStartTime(), agendaItem.getEndTime())).collect(Collectors.toList());
-
-                List<EventAttendance> acceptedAttendances = event.getEventAttendances().stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.ACCEPTED).toList();
-
-                List<DepartmentDto> departmentDTOS = event.getDepartments().stream().map(department -> new DepartmentDto(department.getId(), department.getName())).collect(Collectors.toList());
-
-                return new EventForOrganizersDTO(event.getId(), event.getName(), event.getDescription(), event.getLocation(), event.getCompany() != null ? event.getCompany().getName() : "No company", event.getOrganizer() != null && event.getOrganizer().getUser() != null ? event.getOrganizer().getUser().getFullName() : "No organizer", event.getAvailableSlots(), event.getEventStartDate(), event.getAttendeeLimit(), event.getJoinDeadline(), (int) acceptedAttendances.size(), event.isJoinApproval(), event.getEventEndDate(), agendaItems, event.getPendingRequests(), event.isAvailableForAllDepartments(), departmentDTOS);
-            }).collect(Collectors.toList());
-
-            int thisWeekCount = eventFilterUtil.filterEventsByCurrentWeekForOrganizer(eventForOrganizersDTOS).size();
-            int thisMonthCount = eventFilterUtil.filterEventsByCurrentMonthForOrganizer(eventForOrganizersDTOS).size();
-            int allEventsCount = eventForOrganizersDTOS.size();
-
-            int thisWeekParticipants = eventForOrganizersDTOS.stream().filter(event -> eventFilterUtil.filterEventsByCurrentWeekForOrganizer(List.of(event)).contains(event)).mapToInt(EventForOrganizersDTO::getAcceptedParticipants).sum();
-
-            int thisMonthParticipants = eventForOrganizersDTOS.stream().filter(event -> eventFilterUtil.filterEventsByCurrentMonthForOrganizer(List.of(event)).contains(event)).mapToInt(EventForOrganizersDTO::getAcceptedParticipants).sum();
-
-            int allEventsParticipants = eventForOrganizersDTOS.stream().mapToInt(EventForOrganizersDTO::getAcceptedParticipants).sum();
-
-            if ("week".equalsIgnoreCase(filterType)) {
-                eventForOrganizersDTOS = eventFilterUtil.filterEventsByCurrentWeekForOrganizer(eventForOrganizersDTOS);
-            } else if ("month".equalsIgnoreCase(filterType)) {
-                eventForOrganizersDTOS = eventFilterUtil.filterEventsByCurrentMonthForOrganizer(eventForOrganizersDTOS);
+            EventOrganizer organizer = currentActor.getOrganizer();
+            logger.info("Fetching events for organizer ID: {}", organizer.getId());
+
+            DateRange week = eventFilterUtil.currentWeek();
+            DateRange month = eventFilterUtil.currentMonth();
+            DateRange range = "week".equalsIgnoreCase(filterType) ? week : "month".equalsIgnoreCase(filterType) ? month : new DateRange(LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.of(9999, 12, 31, 0, 0));
+            boolean allDepartments = departmentIds == null || departmentIds.isEmpty();
+
+            List<EventSummaryDTO> fetched = eventRepository.findSummariesByOrganizer(organizer, range.start(), range.end(), allDepartments, allDepartments ? List.of(-1) : departmentIds, pageCursor.id(), pageable);
+            List<EventSummaryDTO> events = CursorPage.trim(fetched, pageable);
+            String nextCursor = events.size() < fetched.size() ? pageCursor.next(null, events.get(events.size() - 1).id()).encode() : null;
+
+            List<Integer> eventIds = events.stream().map(EventSummaryDTO::id).toList();
+            Map<Integer, List<AgendaItemDTO>> agendaItemsByEvent = new HashMap<>();
+            Map<Integer, List<DepartmentDto>> departmentsByEvent = new HashMap<>();
+            if (!eventIds.isEmpty()) {
+                for (Object[] row : eventRepository.findAgendaItemsByEventIds(eventIds)) {
+                    agendaItemsByEvent.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add(new AgendaItemDTO((Integer) row[1], (String) row[2], (String) row[3], (LocalDateTime) row[4], (LocalDateTime) row[5]));
+                }
+                for (Object[] row : eventRepository.findDepartmentsByEventIds(eventIds)) {
+                    departmentsByEvent.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add(new DepartmentDto((Integer) row[1], (String) row[2]));
+                }
             }
 
-            logger.info("Found {} events for organizer: {}", eventForOrganizersDTOS.size(), email);
-
+            List<EventForOrganizersDTO> eventForOrganizersDTOS = events.stream().map(event -> new EventForOrganizersDTO(event.id(), event.name(), event.description(), event.location(), event.companyName() != null ? event.companyName() : "No company", event.organizerName() != null ? event.organizerName() : "No organizer", event.availableSlots(), event.eventStartDate(), event.attendeeLimit(), event.joinDeadline(), event.acceptedCount(), event.joinApproval(), event.eventEndDate(), agendaItemsByEvent.getOrDefault(event.id(), new ArrayList<>()), event.pendingCount(), event.availableForAllDepartments(), departmentsByEvent.getOrDefault(event.id(), new ArrayList<>()))).collect(Collectors.toList());
 
-            if ("week".equalsIgnoreCase(filterType)) {
-                eventForOrganizersDTOS = eventFilterUtil.filterEventsByCurrentWeekForOrganizer(eventForOrganizersDTOS);
-            } else if ("month".equalsIgnoreCase(filterType)) {
-                eventForOrganizersDTOS = eventFilterUtil.filterEventsByCurrentMonthForOrganizer(eventForOrganizersDTOS);
-            }
+            Object[] totals = eventRepository.summarizeByOrganizer(organizer, week.start(), week.end(), month.start(), month.end()).get(0);
+            EventFilterSummaryForOrganizerDTO summary = new EventFilterSummaryForOrganizerDTO(eventForOrganizersDTOS, intValue(totals[1]), intValue(totals[2]), intValue(totals[0]), intValue(totals[4]), intValue(totals[5]), intValue(totals[3]));
 
-            if (departmentIds != null && !departmentIds.isEmpty()) {
-                eventForOrganizersDTOS = eventFilterUtil.filterEventsByDepartment(eventForOrganizersDTOS, departmentIds);
-            }
+            logger.info("Found {} events for organizer ID: {}", summary.getEvents().size(), organizer.getId());
 
-            return new EventFilterSummaryForOrganizerDTO(eventForOrganizersDTOS, thisWeekCount, thisMonthCount, allEventsCount, thisWeekParticipants, thisMonthParticipants, allEventsParticipants);
+            return new CursorPage<>(summary, nextCursor);
 
         } catch (Exception e) {
             logger.error("Error fetching events for organizer", e);
@@ -497,6 +436,10 @@ public class EventOrganizerService {
         }
     }
 
+    private static int intValue(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
     @Transactional
     public void reviewJoinRequest(int eventId, int participantId, AttendanceStatus newStatus) {
         Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
@@ -511,144 +454,205 @@ public class EventOrganizerService {
             throw new RuntimeException("Event has no available slots");
         }
 
+        AttendanceStatus oldStatus = attendance.getStatus();
         attendance.setStatus(newStatus);
         eventAttendanceRepository.save(attendance);
+        if (oldStatus == AttendanceStatus.ACCEPTED && newStatus != AttendanceStatus.ACCEPTED) {
+            attendanceCounterService.onStatusChange(eventId, null, newStatus);
+            waitlistService.releaseSeat(event);
+        } else {
+            attendanceCounterService.onStatusChange(eventId, oldStatus, newStatus);
+        }
+        eventStatsService.onStatusChange(eventId, attendance.getParticipant(), oldStatus, newStatus);
+        eventDetailCache.evict(eventId);
 
         logger.info("Updated join request to status: {}", newStatus);
     }
 
 
-    @Transactional
-    public List<EventParticipantDTO> getParticipantsByCompany() {
+    @Transactional(readOnly = true)
+    public CursorPage<List<EventParticipantDTO>> getParticipantsByCompany(String sort, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor, sort, "name");
+        Pageable pageable = CursorPage.pageRequest(cursor, size, MAX_LIST_PAGE_SIZE);
         try {
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
-
-            User user = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("User not found for email: " + email));
-
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> new IllegalArgumentException("Organizer not found for user: " + email));
-
-            Company company = organizer.getCompany();
-            if (company == null) {
-                throw new IllegalArgumentException("Organizer does not have an associated company.");
+            Company company = getOrganizerCompany();
+            List<Object[]> fetched = eventParticipantRepository.findDirectoryPageByCompany(company.getId(), pageCursor.value(), pageCursor.id(), pageable);
+            List<Object[]> rows = CursorPage.trim(fetched, pageable);
+            String nextCursor = null;
+            if (rows.size() < fetched.size()) {
+                Object[] last = rows.get(rows.size() - 1);
+                nextCursor = pageCursor.next((String) last[1], (Integer) last[0]).encode();
             }
+            return new CursorPage<>(toDirectoryEntries(rows, company.getName()), nextCursor);
+        } catch (Exception e) {
+            logger.error("Error retrieving participants for organizer's company", e);
+            throw new RuntimeException("Error retrieving participants for organizer's company", e);
+        }
+    }
 
-            List<EventParticipant> participants = company.getParticipants();
-
-            return participants.stream().map(participant -> {
-                List<String> eventLinks = participant.getParticipantEvents().stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.ACCEPTED).map(attendance -> "/event-details/" + attendance.getEvent().getId()).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public ParticipantDirectoryPageDTO getParticipantDirectory(String search, String sort, String direction, int page, int size) {
+        Company company = getOrganizerCompany();
+        String sortProperty = DIRECTORY_SORT_PROPERTIES.get(sort != null ? sort : "name");
+        if (sortProperty == null) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
 
-                Integer joinedEventCount = eventLinks.size();
+        int pageSize = Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE));
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize, Sort.by(sortDirection, sortProperty).and(Sort.by("id")));
+        String searchPattern = search == null || search.isBlank() ? "%" : "%" + search.trim().toLowerCase() + "%";
 
-                String departmentName = participant.getDepartment() != null ? participant.getDepartment().getName() : "N/A";
+        List<Object[]> rows = eventParticipantRepository.findDirectoryByCompany(company.getId(), searchPattern, pageable);
+        long totalCount = eventParticipantRepository.countDirectoryByCompany(company.getId(), searchPattern);
 
-                return new EventParticipantDTO(participant.getId(), participant.getUser().getFullName(), participant.getUser().getEmail(), company.getName(), joinedEventCount, eventLinks, departmentName);
-            }).collect(Collectors.toList());
+        return new ParticipantDirectoryPageDTO(toDirectoryEntries(rows, company.getName()), totalCount, pageable.getPageNumber(), pageSize);
+    }
 
-        } catch (Exception e) {
-            logger.error("Error retrieving participants for organizer's company", e);
-            throw new RuntimeException("Error retrieving participants for organizer's company", e);
+    private Company getOrganizerCompany() {
+        Company company = currentActor.getOrganizer().getCompany();
+        if (company == null) {
+            throw new IllegalArgumentException("Organizer does not have an associated company.");
         }
+        return company;
     }
 
-    @Transactional
-    public List<DepartmentDto> getDepartmentsByCompany() {
-        try {
-            UserDetails currentUser = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            String email = currentUser.getUsername();
+    private List<EventParticipantDTO> toDirectoryEntries(List<Object[]> rows, String companyName) {
+        List<Integer> participantIds = rows.stream().map(row -> (Integer) row[0]).toList();
+        Map<Integer, List<String>> eventLinks = new HashMap<>();
+        for (int from = 0; from < participantIds.size(); from += EVENT_LINK_BATCH_SIZE) {
+            List<Integer> batch = participantIds.subList(from, Math.min(from + EVENT_LINK_BATCH_SIZE, participantIds.size()));
+            eventParticipantRepository.findAcceptedEventIdsByParticipantIds(batch).forEach(row -> eventLinks.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add("/event-details/" + row[1]));
+        }
 
-            User user = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("User not found for email: " + email));
+        return rows.stream().map(row -> new EventParticipantDTO((Integer) row[0], (String) row[1], (String) row[2], companyName, ((Long) row[4]).intValue(), eventLinks.getOrDefault((Integer) row[0], new ArrayList<>()), row[3] != null ? (String) row[3] : "N/A")).collect(Collectors.toList());
+    }
 
-            EventOrganizer organizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> new IllegalArgumentException("Organizer not found for user: " + email));
+    @Transactional(readOnly = true)
+    public CursorPage<List<DepartmentDto>> getDepartmentsByCompany(String sort, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor, sort, "name");
+        Pageable pageable = CursorPage.pageRequest(cursor, size, MAX_DEPARTMENT_PAGE_SIZE);
+        try {
+            Company company = getOrganizerCompany();
 
-            Company company = organizer.getCompany();
-            if (company == null) {
-                throw new IllegalArgumentException("Organizer does not have an associated company.");
+            List<Object[]> fetched = departmentRepository.findOverviewByCompany(company.getId(), pageCursor.value(), pageCursor.id(), pageable);
+            if (fetched.isEmpty()) {
+                return new CursorPage<>(new ArrayList<>(), null);
             }
+            List<Object[]> departmentRows = CursorPage.trim(fetched, pageable);
+            String nextCursor = null;
+            if (departmentRows.size() < fetched.size()) {
+                Object[] last = departmentRows.get(departmentRows.size() - 1);
+                nextCursor = pageCursor.next((String) last[1], (Integer) last[0]).encode();
+            }
+            List<Integer> departmentIds = departmentRows.stream().map(row -> (Integer) row[0]).toList();
 
-            List<Department> departments = company.getDepartments();
-
-            List<Event> globalEvents = eventRepository.findByAvailableForAllDepartmentsTrue();
+            Map<Integer, Long> participantCounts = departmentRepository.countParticipantsByDepartment(departmentIds).stream().collect(Collectors.toMap(row -> (Integer) row[0], row -> (Long) row[1]));
+            Map<Integer, Long> eventCounts = departmentRepository.countDepartmentEvents(departmentIds).stream().collect(Collectors.toMap(row -> (Integer) row[0], row -> (Long) row[1]));
 
-            return departments.stream().map(department -> {
-                List<EventParticipantDTO> participants = department.getParticipants().stream().map(participant -> {
-                    List<String> eventLinks = participant.getParticipantEvents().stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.ACCEPTED).map(attendance -> "/event-details/" + attendance.getEvent().getId()).collect(Collectors.toList());
+            Map<Integer, List<EventParticipantDTO>> participantPreviews = new HashMap<>();
+            departmentRepository.findParticipantPreviews(departmentIds, DEPARTMENT_PREVIEW_SIZE).forEach(row -> participantPreviews.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add(new EventParticipantDTO((Integer) row[1], (String) row[2], (String) row[3], company.getName(), null, null, null)));
 
-                    Integer joinedEventCount = eventLinks.size();
-                    String departmentName = participant.getDepartment() != null ? participant.getDepartment().getName() : "N/A";
+            Map<Integer, List<EventDetailDTO>> departmentEvents = new HashMap<>();
+            departmentRepository.findRecentDepartmentEvents(departmentIds, DEPARTMENT_RECENT_EVENTS).forEach(row -> departmentEvents.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add(toEventOverview(Arrays.copyOfRange(row, 1, row.length))));
 
-                    return new EventParticipantDTO(participant.getId(), participant.getUser().getFullName(), participant.getUser().getEmail(), company.getName(), joinedEventCount, eventLinks, departmentName);
-                }).collect(Collectors.toList());
+            List<EventDetailDTO> companyWideEvents = eventRepository.findRecentCompanyWideEvents(company.getId(), PageRequest.of(0, DEPARTMENT_RECENT_EVENTS)).stream().map(this::toEventOverview).toList();
+            long companyWideEventCount = eventRepository.countCompanyWideEvents(company.getId());
 
-                List<EventDetailDTO> events = Stream.concat(department.getEvents().stream(), globalEvents.stream()).map(event -> new EventDetailDTO(event.getId(), event.getName(), event.getDescription(), event.getLocation(), event.getEventStartDate(), event.getEventEndDate(), event.getOrganizer().getUser().getFullName(), event.getAttendeeLimit(), event.getEventAttendances().stream().filter(att -> att.getStatus() == AttendanceStatus.ACCEPTED).map(att -> new ParticipantDTO(att.getParticipant().getId(), att.getParticipant().getUser().getFullName(), att.getParticipant().getUser().getEmail(), att.getParticipant().getDepartment() != null ? att.getParticipant().getDepartment().getName() : "N/A")).collect(Collectors.toList()))).collect(Collectors.toList());
+            List<DepartmentDto> departments = departmentRows.stream().map(row -> {
+                Integer departmentId = (Integer) row[0];
+                List<EventParticipantDTO> participants = participantPreviews.getOrDefault(departmentId, new ArrayList<>());
+                participants.forEach(participant -> participant.setDepartmentName((String) row[1]));
 
-                return new DepartmentDto(department.getId(), department.getName(), participants, events);
+                List<EventDetailDTO> events = Stream.concat(departmentEvents.getOrDefault(departmentId, List.of()).stream(), companyWideEvents.stream()).sorted(Comparator.comparing(EventDetailDTO::getEventStartDate).reversed()).limit(DEPARTMENT_RECENT_EVENTS).collect(Collectors.toList());
 
+                return new DepartmentDto(departmentId, (String) row[1], participants, events, participantCounts.getOrDefault(departmentId, 0L), eventCounts.getOrDefault(departmentId, 0L) + companyWideEventCount);
             }).collect(Collectors.toList());
 
+            return new CursorPage<>(departments, nextCursor);
+
         } catch (Exception e) {
             logger.error("Error retrieving departments for organizer's company", e);
             throw new RuntimeException("Error retrieving departments for organizer's company", e);
         }
     }
 
+    @Transactional(readOnly = true)
+    public ParticipantDirectoryPageDTO getDepartmentParticipants(Integer departmentId, int page, int size) {
+        Company company = getOrganizerCompany();
+        int pageSize = Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize, Sort.by("fullName", "id"));
+
+        List<Object[]> rows = eventParticipantRepository.findDirectoryByDepartment(company.getId(), departmentId, pageable);
+        long totalCount = eventParticipantRepository.countByCompanyIdAndDepartmentId(company.getId(), departmentId);
+
+        return new ParticipantDirectoryPageDTO(toDirectoryEntries(rows, company.getName()), totalCount, pageable.getPageNumber(), pageSize);
+    }
+
+    private EventDetailDTO toEventOverview(Object[] row) {
+        return new EventDetailDTO((Integer) row[0], (String) row[1], (String) row[2], (String) row[3], (LocalDateTime) row[4], (LocalDateTime) row[5], (String) row[6], (Integer) row[7], new ArrayList<>());
+    }
+
     public EventDetailDTO getEventDetails(int eventId) {
+        return eventDetailCache.get(eventId, this::loadEventDetails);
+    }
+
+    private EventDetailDTO loadEventDetails(Integer eventId) {
         try {
-            Event event = eventRepository.findById(eventId).orElseThrow(() -> new IllegalArgumentException("Event not found"));
+            Object[] row = eventRepository.findDetailById(eventId).stream().findFirst().orElseThrow(() -> new IllegalArgumentException("Event not found"));
 
-            List<ParticipantDTO> participants = event.getEventAttendances().stream().filter(eventAttendance -> eventAttendance.getStatus() == AttendanceStatus.ACCEPTED).map(eventAttendance -> {
-                EventParticipant participant = eventAttendance.getParticipant();
-                String departmentName = participant.getDepartment() != null ? participant.getDepartment().getName() : "No Department";
-                return new ParticipantDTO(participant.getId(), participant.getUser().getFullName(), participant.getUser().getEmail(), departmentName);
-            }).collect(Collectors.toList());
+            List<ParticipantDTO> participants = eventAttendanceRepository.findAcceptedParticipantsByEventId(eventId).stream().map(participant -> new ParticipantDTO((Integer) participant[0], (String) participant[1], (String) participant[2], participant[3] != null ? (String) participant[3] : "No Department")).collect(Collectors.toList());
 
             Integer availableSeats = participants.size();
-            Integer attendeeLimit = event.getAttendeeLimit();
 
-            List<AgendaItemDTO> agendaItems = event.getAgendaItems().stream().map(agendaItem -> new AgendaItemDTO(agendaItem.getId(), agendaItem.getTitle(), agendaItem.getDescription(), agendaItem.getStartTime(), agendaItem.getEndTime())).collect(Collectors.toList());
+            List<AgendaItemDTO> agendaItems = eventRepository.findAgendaItemsByEventIds(List.of(eventId)).stream().map(agendaItem -> new AgendaItemDTO((Integer) agendaItem[1], (String) agendaItem[2], (String) agendaItem[3], (LocalDateTime) agendaItem[4], (LocalDateTime) agendaItem[5])).collect(Collectors.toList());
 
-            return new EventDetailDTO(event.getId(), event.getName(), event.getDescription(), event.getLocation(), event.getEventStartDate(), event.getEventEndDate(), event.getJoinDeadline(), event.getOrganizer().getUser().getFullName(), agendaItems, event.getPendingRequests(), participants, availableSeats, attendeeLimit, event.isAvailableForAllDepartments());
+            return new EventDetailDTO((Integer) row[0], (String) row[1], (String) row[2], (String) row[3], (LocalDateTime) row[4], (LocalDateTime) row[5], (LocalDateTime) row[6], (String) row[7], agendaItems, (Integer) row[8], participants, availableSeats, (Integer) row[9], (Boolean) row[10]);
         } catch (Exception e) {
             logger.error("Error retrieving event details", e);
             throw new RuntimeException("Error retrieving event details", e);
         }
     }
 
-    public Map<Integer, Map<Gender, Long>> getGenderStatistics() {
-        List<Object[]> results = eventAttendanceRepository.countParticipantsByGender();
-        Map<Integer, Map<Gender, Long>> statistics = new HashMap<>();
+    @Transactional(readOnly = true)
+    public GenderStatisticsPageDTO getGenderStatistics(LocalDateTime from, LocalDateTime to, Integer afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_GENDER_STATISTICS_PAGE_SIZE));
+        LocalDateTime rangeStart = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime rangeEnd = to != null ? to : LocalDateTime.of(9999, 12, 31, 0, 0);
+
+        List<Integer> eventIds = eventRepository.findIdsByCompanyAfter(currentActor.getCompanyId(), afterId != null ? afterId : 0, rangeStart, rangeEnd, PageRequest.of(0, pageSize + 1));
+        Integer nextCursor = null;
+        if (eventIds.size() > pageSize) {
+            eventIds = eventIds.subList(0, pageSize);
+            nextCursor = eventIds.get(pageSize - 1);
+        }
 
-        for (Object[] result : results) {
-            Integer eventId = (Integer) result[0];
-            Gender gender = (Gender) result[1];
-            Long count = (Long) result[2];
+        Map<Integer, Map<Gender, Long>> statistics = new LinkedHashMap<>();
+        eventIds.forEach(eventId -> statistics.put(eventId, new EnumMap<>(Gender.class)));
+        if (!eventIds.isEmpty()) {
+            for (Object[] result : eventAttendanceRepository.countAcceptedParticipantsByGender(eventIds)) {
+                Integer eventId = (Integer) result[0];
+                Gender gender = (Gender) result[1];
+                Long count = (Long) result[2];
 
-            statistics.computeIfAbsent(eventId, k -> new HashMap<>()).put(gender, count);
+                statistics.get(eventId).put(gender, count);
+            }
         }
 
-        return statistics;
+        return new GenderStatisticsPageDTO(statistics, nextCursor);
     }
 
     @Transactional
     public EventStatisticsDTO getEventStatistics(Integer eventId) {
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new IllegalArgumentException("Event not found"));
-
-        List<EventAttendance> acceptedAttendances = event.getEventAttendances().stream().filter(attendance -> attendance.getStatus() == AttendanceStatus.ACCEPTED).toList();
-
-        Map<String, Object> ageStats = statisticsService.calculateAgeStats(acceptedAttendances.stream().map(attendance -> attendance.getParticipant().getAge()).toList());
-        Map<String, Long> genderCounts = statisticsService.calculateGenderCounts(acceptedAttendances);
-        Map<String, Object> experienceStats = statisticsService.calculateExperienceStats(acceptedAttendances.stream().map(attendance -> attendance.getParticipant().getYearsOfExperience()).toList());
-        Map<String, Map<String, Object>> educationLevelStats = statisticsService.calculateEducationLevelStats(acceptedAttendances);
-        Map<String, EducationLevelStatsDTO> educationLevelDTOMap = educationLevelStats.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> new EducationLevelStatsDTO((Long) entry.getValue().get("count"), (Double) entry.getValue().get("percentage"))));
-        Map<String, Map<String, Object>> occupationStats = statisticsService.calculateOccupationStats(acceptedAttendances);
-        Map<String, OccupationStatsDTO> occupationDTOMap = occupationStats.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> new OccupationStatsDTO((Long) entry.getValue().get("count"), (Double) entry.getValue().get("percentage"))));
-
-        Map<String, Long> departmentStats = new HashMap<>();
-        if (event.getDepartments().size() > 1 || event.isAvailableForAllDepartments()) {
-            departmentStats = statisticsService.calculateDepartmentStats(acceptedAttendances, event.getDepartments());
+        List<Object[]> departmentScope = eventRepository.findDepartmentScopeById(eventId);
+        if (departmentScope.isEmpty()) {
+            throw new IllegalArgumentException("Event not found");
         }
 
-        return new EventStatisticsDTO((Double) ageStats.get("averageAge"), (Integer) ageStats.get("highestAge"), (Integer) ageStats.get("lowestAge"), genderCounts.get("maleCount"), genderCounts.get("femaleCount"), genderCounts.get("otherCount"), (Double) experienceStats.get("averageExperience"), (Integer) experienceStats.get("highestExperience"), (Integer) experienceStats.get("lowestExperience"), educationLevelDTOMap, occupationDTOMap, departmentStats);
+        List<String> departmentNames = departmentScope.stream().map(row -> (String) row[1]).filter(Objects::nonNull).toList();
+        boolean includeDepartmentStats = departmentNames.size() > 1 || (Boolean) departmentScope.get(0)[0];
+
+        return statisticsService.buildEventStatistics(eventStatsService.getStats(eventId), includeDepartmentStats, departmentNames);
     }
 
 }
@@ -2,8 +2,12 @@ package com.app.attendify.eventParticipant.controller;
 
 import com.app.attendify.event.dto.EventFilterSummaryForParticipantDTO;
 import com.app.attendify.event.dto.FeedbackDTO;
+import com.app.attendify.event.enums.AttendanceStatus;
 import com.app.attendify.eventParticipant.service.EventParticipantService;
+import com.app.attendify.exceptions.FeedbackAlreadySubmittedException;
+import com.app.attendify.utils.CursorPage;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,11 +34,12 @@ public class EventParticipantController {
     }
 
     @GetMapping("/my-events")
-    public ResponseEntity<EventFilterSummaryForParticipantDTO> getMyEvents(@RequestParam(required = false) String filter) {
+    public ResponseEntity<EventFilterSummaryForParticipantDTO> getMyEvents(@RequestParam(required = false) String filter, @RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
         try {
-            String currentUserEmail = getCurrentUserEmail();
-            EventFilterSummaryForParticipantDTO summary = eventParticipantService.getEventsForParticipant(currentUserEmail, filter);
-            return ResponseEntity.ok(summary);
+            CursorPage<EventFilterSummaryForParticipantDTO> summary = eventParticipantService.getEventsForParticipant(filter, sort, cursor, size);
+            return summary.toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Failed to fetch events for the participant", e);
             return ResponseEntity.status(500).body(null);
@@ -44,9 +49,7 @@ public class EventParticipantController {
     @GetMapping("/feedback/{eventId}")
     public ResponseEntity<FeedbackDTO> getEventFeedback(@PathVariable Integer eventId) {
         try {
-            String currentUserEmail = getCurrentUserEmail();
-
-            FeedbackDTO feedback = eventParticipantService.getFeedbackForEvent(eventId, currentUserEmail);
+            FeedbackDTO feedback = eventParticipantService.getFeedbackForEvent(eventId);
 
             if (feedback == null) {
                 return ResponseEntity.status(204).body(null);
@@ -62,9 +65,10 @@ public class EventParticipantController {
     @PostMapping("/submit-feedback/{eventId}")
     public ResponseEntity<String> submitFeedback(@PathVariable Integer eventId, @Valid @RequestBody FeedbackDTO feedbackDTO) {
         try {
-            String currentUserEmail = getCurrentUserEmail();
-            eventParticipantService.submitFeedback(eventId, currentUserEmail, feedbackDTO.getComments(), feedbackDTO.getRating());
+            eventParticipantService.submitFeedback(eventId, feedbackDTO.getComments(), feedbackDTO.getRating());
             return ResponseEntity.ok("Feedback submitted successfully.");
+        } catch (FeedbackAlreadySubmittedException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             logger.error("Error while submitting feedback", e);
             return ResponseEntity.status(500).body("Error while submitting feedback: " + e.getMessage());
@@ -74,8 +78,10 @@ public class EventParticipantController {
     @PostMapping("/join-event/{eventId}")
     public ResponseEntity<String> joinEvent(@PathVariable int eventId) {
         try {
-            String currentUserEmail = getCurrentUserEmail();
-            eventParticipantService.joinEvent(eventId, currentUserEmail);
+            AttendanceStatus status = eventParticipantService.joinEvent(eventId);
+            if (status == AttendanceStatus.WAITLISTED) {
+                return ResponseEntity.ok("This event is full. You have been added to the waitlist.");
+            }
             return ResponseEntity.ok("Successfully joined event.");
         } catch (Exception e) {
             logger.error("Error while joining event", e);
@@ -89,7 +95,7 @@ public class EventParticipantController {
             String currentUserEmail = getCurrentUserEmail();
             logger.info("Received unjoin request. User email: {}, Event ID: {}", currentUserEmail, eventId);
 
-            eventParticipantService.unjoinEvent(eventId, currentUserEmail);
+            eventParticipantService.unjoinEvent(eventId);
 
             logger.info("User {} successfully unjoined event ID {}", currentUserEmail, eventId);
             return ResponseEntity.ok("Successfully unjoined the event.");
@@ -0,0 +1,50 @@
+package com.app.attendify.eventParticipant.dto;
+
+import java.util.List;
+
+public class ParticipantDirectoryPageDTO {
+
+    private List<EventParticipantDTO> participants;
+    private long totalCount;
+    private int page;
+    private int size;
+
+    public ParticipantDirectoryPageDTO(List<EventParticipantDTO> participants, long totalCount, int page, int size) {
+        this.participants = participants;
+        this.totalCount = totalCount;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<EventParticipantDTO> getParticipants() {
+        return participants;
+    }
+
+    public void setParticipants(List<EventParticipantDTO> participants) {
+        this.participants = participants;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
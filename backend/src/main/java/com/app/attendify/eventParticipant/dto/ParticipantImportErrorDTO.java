@@ -0,0 +1,38 @@
+package com.app.attendify.eventParticipant.dto;
+
+public class ParticipantImportErrorDTO {
+
+    private long row;
+    private String email;
+    private String error;
+
+    public ParticipantImportErrorDTO(long row, String email, String error) {
+        this.row = row;
+        this.email = email;
+        this.error = error;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.attendify.eventParticipant.dto;
+
+import java.util.List;
+
+public class ParticipantImportReportDTO {
+
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private boolean errorsTruncated;
+    private List<ParticipantImportErrorDTO> errors;
+
+    public ParticipantImportReportDTO(long totalRows, long importedCount, long failedCount, boolean errorsTruncated, List<ParticipantImportErrorDTO> errors) {
+        this.totalRows = totalRows;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errorsTruncated = errorsTruncated;
+        this.errors = errors;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public List<ParticipantImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ParticipantImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,6 @@
+package com.app.attendify.eventParticipant.enums;
+
+public enum ParticipantImportFormat {
+    CSV,
+    NDJSON
+}
@@ -16,7 +16,8 @@ import java.util.List;
 public class EventParticipant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_participant_seq")
+    @SequenceGenerator(name = "event_participant_seq", sequenceName = "event_participant_seq", allocationSize = 50)
     private Integer id;
 
     @OneToOne
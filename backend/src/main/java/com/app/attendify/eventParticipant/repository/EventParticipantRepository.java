@@ -2,9 +2,14 @@ package com.app.attendify.eventParticipant.repository;
 
 import com.app.attendify.eventParticipant.model.EventParticipant;
 import com.app.attendify.security.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,22 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
     EventParticipant findByUser(User user);
 
     Optional<EventParticipant> findByUser_Email(String email);
+
+    @Query("SELECT p.id AS id, u.fullName AS fullName, u.email AS email, d.name AS departmentName, COUNT(a.id) AS joinedEventCount " + "FROM EventParticipant p JOIN p.user u LEFT JOIN p.department d " + "LEFT JOIN p.eventAttendances a ON a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED " + "WHERE p.company.id = :companyId AND (LOWER(u.fullName) LIKE :search OR LOWER(u.email) LIKE :search) " + "GROUP BY p.id, u.fullName, u.email, d.name")
+    List<Object[]> findDirectoryByCompany(@Param("companyId") Integer companyId, @Param("search") String search, Pageable pageable);
+
+    @Query("SELECT p.id, u.fullName, u.email, d.name, COUNT(a.id) " + "FROM EventParticipant p JOIN p.user u LEFT JOIN p.department d " + "LEFT JOIN p.eventAttendances a ON a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED " + "WHERE p.company.id = :companyId AND (u.fullName > :afterName OR (u.fullName = :afterName AND p.id > :afterId)) " + "GROUP BY p.id, u.fullName, u.email, d.name ORDER BY u.fullName, p.id")
+    List<Object[]> findDirectoryPageByCompany(@Param("companyId") Integer companyId, @Param("afterName") String afterName, @Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, u.fullName AS fullName, u.email AS email, d.name AS departmentName, COUNT(a.id) AS joinedEventCount " + "FROM EventParticipant p JOIN p.user u JOIN p.department d " + "LEFT JOIN p.eventAttendances a ON a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED " + "WHERE p.company.id = :companyId AND d.id = :departmentId " + "GROUP BY p.id, u.fullName, u.email, d.name")
+    List<Object[]> findDirectoryByDepartment(@Param("companyId") Integer companyId, @Param("departmentId") Integer departmentId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM EventParticipant p WHERE p.company.id = :companyId AND p.department.id = :departmentId")
+    long countByCompanyIdAndDepartmentId(@Param("companyId") Integer companyId, @Param("departmentId") Integer departmentId);
+
+    @Query("SELECT COUNT(p) FROM EventParticipant p JOIN p.user u WHERE p.company.id = :companyId AND (LOWER(u.fullName) LIKE :search OR LOWER(u.email) LIKE :search)")
+    long countDirectoryByCompany(@Param("companyId") Integer companyId, @Param("search") String search);
+
+    @Query("SELECT a.participant.id, a.event.id FROM EventAttendance a WHERE a.participant.id IN :participantIds AND a.status = com.app.attendify.event.enums.AttendanceStatus.ACCEPTED ORDER BY a.event.id")
+    List<Object[]> findAcceptedEventIdsByParticipantIds(@Param("participantIds") Collection<Integer> participantIds);
 }
@@ -12,19 +12,31 @@ import com.app.attendify.event.model.Feedback;
 import com.app.attendify.event.repository.EventRepository;
 import com.app.attendify.event.repository.EventAttendanceRepository;
 import com.app.attendify.event.repository.FeedbackRepository;
+import com.app.attendify.event.services.AttendanceCounterService;
+import com.app.attendify.event.services.EventDetailCache;
+import com.app.attendify.event.services.EventStatsService;
+import com.app.attendify.event.services.WaitlistService;
 import com.app.attendify.eventParticipant.dto.EventForParticipantsDTO;
 import com.app.attendify.eventParticipant.model.EventParticipant;
-import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.exceptions.FeedbackAlreadySubmittedException;
+import com.app.attendify.security.services.CurrentActor;
+import com.app.attendify.utils.CursorPage;
+import com.app.attendify.utils.DateRange;
 import com.app.attendify.utils.EventFilterUtil;
+import com.app.attendify.utils.PageCursor;
 import com.app.attendify.utils.TimeZoneConversionUtil;
 import jakarta.transaction.Transactional;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,27 +44,38 @@ public class EventParticipantService {
 
     private static final Logger log = LoggerFactory.getLogger(EventParticipantService.class);
 
-    private final EventParticipantRepository eventParticipantRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CurrentActor currentActor;
     private final EventRepository eventRepository;
     private final EventAttendanceRepository eventAttendanceRepository;
     private final EventFilterUtil eventFilterUtil;
     private final FeedbackRepository feedbackRepository;
     private final TimeZoneConversionUtil timeZoneConversionUtil;
+    private final AttendanceCounterService attendanceCounterService;
+    private final WaitlistService waitlistService;
+    private final EventStatsService eventStatsService;
+    private final EventDetailCache eventDetailCache;
 
     @Autowired
-    public EventParticipantService(EventParticipantRepository eventParticipantRepository, EventRepository eventRepository, EventAttendanceRepository eventAttendanceRepository, EventFilterUtil eventFilterUtil, FeedbackRepository feedbackRepository, TimeZoneConversionUtil timeZoneConversionUtil) {
-        this.eventParticipantRepository = eventParticipantRepository;
+    public EventParticipantService(CurrentActor currentActor, EventRepository eventRepository, EventAttendanceRepository eventAttendanceRepository, EventFilterUtil eventFilterUtil, FeedbackRepository feedbackRepository, TimeZoneConversionUtil timeZoneConversionUtil, AttendanceCounterService attendanceCounterService, WaitlistService waitlistService, EventStatsService eventStatsService, EventDetailCache eventDetailCache) {
+        this.currentActor = currentActor;
         this.eventRepository = eventRepository;
         this.eventAttendanceRepository = eventAttendanceRepository;
         this.eventFilterUtil = eventFilterUtil;
         this.feedbackRepository = feedbackRepository;
         this.timeZoneConversionUtil = timeZoneConversionUtil;
+        this.attendanceCounterService = attendanceCounterService;
+        this.waitlistService = waitlistService;
+        this.eventStatsService = eventStatsService;
+        this.eventDetailCache = eventDetailCache;
     }
 
     @Transactional
-    public EventFilterSummaryForParticipantDTO getEventsForParticipant(String currentUserEmail, String filterType) {
+    public CursorPage<EventFilterSummaryForParticipantDTO> getEventsForParticipant(String filterType, String sort, String cursor, Integer size) {
+        PageCursor pageCursor = PageCursor.decode(cursor, sort, "id");
         try {
-            EventParticipant eventParticipant = eventParticipantRepository.findByUser_Email(currentUserEmail).orElseThrow(() -> new RuntimeException("Event Participant not found for the current user"));
+            EventParticipant eventParticipant = currentActor.getParticipant();
 
             Company participantCompany = eventParticipant.getCompany();
             if (participantCompany == null) {
@@ -60,19 +83,41 @@ public class EventParticipantService {
             }
 
             Department participantDepartment = eventParticipant.getDepartment();
-            List<Event> events = eventRepository.findByCompany(participantCompany);
+            DateRange week = eventFilterUtil.currentWeek();
+            DateRange month = eventFilterUtil.currentMonth();
+            LocalDateTime now = LocalDateTime.now();
+            Pageable pageable = CursorPage.pageRequest(cursor, size, MAX_PAGE_SIZE);
+
+            List<Event> fetched;
+            if ("week".equalsIgnoreCase(filterType)) {
+                fetched = eventRepository.findVisibleToDepartmentBetween(participantCompany, participantDepartment, week.start(), week.end(), pageCursor.id(), pageable);
+            } else if ("month".equalsIgnoreCase(filterType)) {
+                fetched = eventRepository.findVisibleToDepartmentBetween(participantCompany, participantDepartment, month.start(), month.end(), pageCursor.id(), pageable);
+            } else if ("upcoming".equalsIgnoreCase(filterType)) {
+                fetched = eventRepository.findUpcomingAcceptedByParticipant(eventParticipant, now, pageCursor.id(), pageable);
+            } else {
+                fetched = eventRepository.findVisibleToDepartment(participantCompany, participantDepartment, pageCursor.id(), pageable);
+            }
+
+            List<Event> events = CursorPage.trim(fetched, pageable);
+            String nextCursor = events.size() < fetched.size() ? pageCursor.next(null, events.get(events.size() - 1).getId()).encode() : null;
+
+            int thisWeekCount = (int) eventRepository.countVisibleToDepartmentBetween(participantCompany, participantDepartment, week.start(), week.end());
+            int thisMonthCount = (int) eventRepository.countVisibleToDepartmentBetween(participantCompany, participantDepartment, month.start(), month.end());
+            int allEventsCount = (int) eventRepository.countVisibleToDepartment(participantCompany, participantDepartment);
+            int upcomingEventsCount = (int) eventRepository.countUpcomingAcceptedByParticipant(eventParticipant, now);
 
-            events = events.stream().filter(event -> event.isAvailableForAllDepartments() || event.getDepartments().contains(participantDepartment)).collect(Collectors.toList());
+            List<Integer> eventIds = events.stream().map(Event::getId).collect(Collectors.toList());
+            Map<Integer, AttendanceStatus> statusesByEvent = loadAttendanceStatuses(eventParticipant.getId(), eventIds);
+            Map<Integer, FeedbackDTO> feedbacksByEvent = loadFeedbacks(eventParticipant.getId(), eventIds);
 
             List<EventForParticipantsDTO> eventForParticipantsDTOS = events.stream().map(event -> {
-                EventAttendance attendance = eventAttendanceRepository.findByParticipantIdAndEventId(eventParticipant.getId(), event.getId()).orElse(null);
-                String status = attendance != null ? attendance.getStatus().name() : "NOT_JOINED";
+                AttendanceStatus attendanceStatus = statusesByEvent.get(event.getId());
+                String status = attendanceStatus != null ? attendanceStatus.name() : "NOT_JOINED";
 
                 Integer availableSeats = event.getAvailableSlots();
                 Integer attendeeLimit = event.getAttendeeLimit();
 
-                long acceptedParticipantsCount = event.getEventAttendances().stream().filter(attendance1 -> attendance1.getStatus() == AttendanceStatus.ACCEPTED).count();
-
                 Integer pendingRequests = event.getPendingRequests();
 
                 List<String> departmentNames;
@@ -84,30 +129,13 @@ public class EventParticipantService {
 
                 List<AgendaItemDTO> agendaItems = event.getAgendaItems().stream().map(agendaItem -> new AgendaItemDTO(agendaItem.getId(), agendaItem.getTitle(), agendaItem.getDescription(), agendaItem.getStartTime(), agendaItem.getEndTime())).collect(Collectors.toList());
 
-                boolean isFeedbackSubmitted = feedbackRepository.existsByEventIdAndParticipantId(event.getId(), eventParticipant.getId());
-
-                FeedbackDTO feedbackDTO = null;
-                if (feedbackRepository.existsByEventIdAndParticipantId(event.getId(), eventParticipant.getId())) {
-                    feedbackDTO = getFeedbackForEvent(event.getId(), currentUserEmail);
-                }
+                FeedbackDTO feedbackDTO = feedbacksByEvent.get(event.getId());
+                boolean isFeedbackSubmitted = feedbackDTO != null;
 
-                return new EventForParticipantsDTO(event.getId(), event.getName(), event.getDescription(), event.getLocation(), event.getCompany() != null ? event.getCompany().getName() : "No company", event.getOrganizer() != null && event.getOrganizer().getUser() != null ? event.getOrganizer().getUser().getFullName() : "No organizer", availableSeats, event.getEventStartDate(), attendeeLimit, event.getJoinDeadline(), (int) acceptedParticipantsCount, event.isJoinApproval(), status, event.getEventEndDate(), agendaItems, pendingRequests, departmentNames, isFeedbackSubmitted, event.getEventEndDate().isBefore(LocalDateTime.now()), feedbackDTO);
+                return new EventForParticipantsDTO(event.getId(), event.getName(), event.getDescription(), event.getLocation(), event.getCompany() != null ? event.getCompany().getName() : "No company", event.getOrganizer() != null && event.getOrganizer().getUser() != null ? event.getOrganizer().getUser().getFullName() : "No organizer", availableSeats, event.getEventStartDate(), attendeeLimit, event.getJoinDeadline(), event.getAcceptedCount(), event.isJoinApproval(), status, event.getEventEndDate(), agendaItems, pendingRequests, departmentNames, isFeedbackSubmitted, event.getEventEndDate().isBefore(now), feedbackDTO);
             }).collect(Collectors.toList());
 
-            int thisWeekCount = eventFilterUtil.filterEventsByCurrentWeekForParticipant(eventForParticipantsDTOS).size();
-            int thisMonthCount = eventFilterUtil.filterEventsByCurrentMonthForParticipant(eventForParticipantsDTOS).size();
-            int allEventsCount = eventForParticipantsDTOS.size();
-            int upcomingEventsCount = eventFilterUtil.filterUpcomingEventsForParticipant(eventForParticipantsDTOS).size();
-
-            if ("week".equalsIgnoreCase(filterType)) {
-                eventForParticipantsDTOS = eventFilterUtil.filterEventsByCurrentWeekForParticipant(eventForParticipantsDTOS);
-            } else if ("month".equalsIgnoreCase(filterType)) {
-                eventForParticipantsDTOS = eventFilterUtil.filterEventsByCurrentMonthForParticipant(eventForParticipantsDTOS);
-            } else if ("upcoming".equalsIgnoreCase(filterType)) {
-                eventForParticipantsDTOS = eventFilterUtil.filterUpcomingEventsForParticipant(eventForParticipantsDTOS);
-            }
-
-            return new EventFilterSummaryForParticipantDTO(eventForParticipantsDTOS, thisWeekCount, thisMonthCount, allEventsCount, upcomingEventsCount);
+            return new CursorPage<>(new EventFilterSummaryForParticipantDTO(eventForParticipantsDTOS, thisWeekCount, thisMonthCount, allEventsCount, upcomingEventsCount), nextCursor);
 
         } catch (Exception e) {
             log.error("Error fetching events for participant", e);
@@ -115,16 +143,39 @@ public class EventParticipantService {
         }
     }
 
+    private Map<Integer, AttendanceStatus> loadAttendanceStatuses(Integer participantId, List<Integer> eventIds) {
+        Map<Integer, AttendanceStatus> statuses = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return statuses;
+        }
+
+        for (Object[] row : eventAttendanceRepository.findStatusesByParticipantIdAndEventIds(participantId, eventIds)) {
+            statuses.put((Integer) row[0], (AttendanceStatus) row[1]);
+        }
+        return statuses;
+    }
+
+    private Map<Integer, FeedbackDTO> loadFeedbacks(Integer participantId, List<Integer> eventIds) {
+        Map<Integer, FeedbackDTO> feedbacks = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return feedbacks;
+        }
+
+        for (Object[] row : feedbackRepository.findByParticipantIdAndEventIds(participantId, eventIds)) {
+            FeedbackDTO feedbackDTO = new FeedbackDTO();
+            feedbackDTO.setComments((String) row[1]);
+            feedbackDTO.setRating((Integer) row[2]);
+            feedbacks.put((Integer) row[0], feedbackDTO);
+        }
+        return feedbacks;
+    }
+
     @Transactional
-    public void joinEvent(int eventId, String userEmail) {
+    public AttendanceStatus joinEvent(int eventId) {
         log.info("Received request to join event with ID: {}", eventId);
 
         Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
-        EventParticipant eventParticipant = eventParticipantRepository.findByUser_Email(userEmail).orElseThrow(() -> new RuntimeException("Participant not found"));
-
-        if (event.getAttendeeLimit() != null && event.getAvailableSlots() <= 0) {
-            throw new RuntimeException("This event has reached its attendee limit.");
-        }
+        EventParticipant eventParticipant = currentActor.getParticipant();
 
         if (eventAttendanceRepository.existsByParticipantIdAndEventId(eventParticipant.getId(), eventId)) {
             throw new RuntimeException("You have already joined this event");
@@ -134,33 +185,36 @@ public class EventParticipantService {
             throw new RuntimeException("The join deadline for this event has passed.");
         }
 
-        AttendanceStatus status = event.isJoinApproval() ? AttendanceStatus.PENDING : AttendanceStatus.ACCEPTED;
+        AttendanceStatus status = waitlistService.admit(event);
 
         EventAttendance eventAttendance = new EventAttendance(eventParticipant, event);
         eventAttendance.setStatus(status);
-        eventAttendanceRepository.save(eventAttendance);
+        try {
+            eventAttendanceRepository.saveAndFlush(eventAttendance);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("You have already joined this event");
+        }
+        eventStatsService.onStatusChange(event.getId(), eventParticipant, null, status);
+        eventDetailCache.evict(eventId);
 
-        log.info("Successfully {}joined event with ID: {}", status == AttendanceStatus.ACCEPTED ? "" : "requested to ", eventId);
+        log.info("Participant ID {} joined event with ID: {} as {}", eventParticipant.getId(), eventId, status);
+        return status;
     }
 
     @Transactional
-    public void unjoinEvent(Integer eventId, String userEmail) {
-        log.info("Attempting to unjoin event. User email: {}, Event ID: {}", userEmail, eventId);
+    public void unjoinEvent(Integer eventId) {
+        log.info("Attempting to unjoin event. Event ID: {}", eventId);
 
-        EventParticipant eventParticipant = eventParticipantRepository.findByUser_Email(userEmail).orElseThrow(() -> {
-            log.error("No EventParticipant found for user email: {}", userEmail);
-            return new RuntimeException("Participant not found for the current user");
-        });
+        EventParticipant eventParticipant = currentActor.getParticipant();
 
         log.info("Participant found: {} (ID: {})", eventParticipant.getUser().getFullName(), eventParticipant.getId());
 
-        boolean isJoined = eventAttendanceRepository.existsByParticipantIdAndEventId(eventParticipant.getId(), eventId);
-        if (!isJoined) {
+        EventAttendance attendance = eventAttendanceRepository.findByParticipantIdAndEventId(eventParticipant.getId(), eventId).orElseThrow(() -> {
             log.warn("Participant with ID {} is not joined to event ID {}", eventParticipant.getId(), eventId);
-            throw new RuntimeException("You are not joined to this event.");
-        }
+            return new RuntimeException("You are not joined to this event.");
+        });
 
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+        Event event = eventRepository.findSummaryById(eventId).orElseThrow(() -> {
             log.error("No event found with ID: {}", eventId);
             return new RuntimeException("Event not found.");
         });
@@ -179,17 +233,24 @@ public class EventParticipantService {
             log.error("Failed to delete association between Participant ID {} and Event ID {}", eventParticipant.getId(), eventId);
             throw new RuntimeException("Failed to unjoin the event. Please try again.");
         }
+        if (attendance.getStatus() == AttendanceStatus.ACCEPTED) {
+            waitlistService.releaseSeat(event);
+        } else {
+            attendanceCounterService.onStatusChange(eventId, attendance.getStatus(), null);
+        }
+        eventStatsService.onStatusChange(eventId, eventParticipant, attendance.getStatus(), null);
+        eventDetailCache.evict(eventId);
 
         log.info("Successfully removed association between Participant ID {} and Event ID {}", eventParticipant.getId(), eventId);
     }
 
     @Transactional
-    public void submitFeedback(Integer eventId, String userEmail, String comments, int rating) {
+    public void submitFeedback(Integer eventId, String comments, int rating) {
         Logger logger = LoggerFactory.getLogger(this.getClass());
 
-        logger.info("Starting feedback submission for eventId: {}, userEmail: {}", eventId, userEmail);
+        logger.info("Starting feedback submission for eventId: {}", eventId);
 
-        Event event = eventRepository.findById(eventId)
+        Event event = eventRepository.findSummaryById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         logger.info("Event retrieved: {}, Event end date: {}", event.getName(), event.getEventEndDate());
 
@@ -201,15 +262,18 @@ public class EventParticipantService {
             throw new RuntimeException("Feedback can only be submitted after the event has ended.");
         }
 
-        EventParticipant participant = eventParticipantRepository.findByUser_Email(userEmail)
-                .orElseThrow(() -> new RuntimeException("Participant not found"));
+        EventParticipant participant = currentActor.getParticipant();
         logger.info("Participant retrieved: {}", participant.getId());
 
         if (eventAttendanceRepository.findByParticipantIdAndEventId(participant.getId(), eventId).isEmpty()) {
-            logger.error("Participant {} did not attend the event {}", userEmail, eventId);
+            logger.error("Participant {} did not attend the event {}", participant.getId(), eventId);
             throw new RuntimeException("You did not attend this event.");
         }
 
+        if (feedbackRepository.existsByEventIdAndParticipantId(eventId, participant.getId())) {
+            throw new FeedbackAlreadySubmittedException("You have already submitted feedback for this event.");
+        }
+
         Feedback feedback = new Feedback();
         feedback.setEvent(event);
         feedback.setParticipant(participant);
@@ -217,8 +281,12 @@ public class EventParticipantService {
         feedback.setRating(rating);
         logger.info("Feedback created: [Event: {}, Participant: {}, Rating: {}]", event.getName(), participant.getId(), rating);
 
-        feedbackRepository.save(feedback);
-        logger.info("Feedback saved successfully for eventId: {} and userEmail: {}", eventId, userEmail);
+        try {
+            feedbackRepository.saveAndFlush(feedback);
+        } catch (DataIntegrityViolationException e) {
+            throw new FeedbackAlreadySubmittedException("You have already submitted feedback for this event.");
+        }
+        logger.info("Feedback saved successfully for eventId: {} and participant: {}", eventId, participant.getId());
 
         event.setFeedbackSubmitted(true);
         eventRepository.save(event);
@@ -226,8 +294,8 @@ public class EventParticipantService {
     }
 
     @Transactional
-    public FeedbackDTO getFeedbackForEvent(Integer eventId, String userEmail) {
-        EventParticipant participant = eventParticipantRepository.findByUser_Email(userEmail).orElseThrow(() -> new RuntimeException("Participant not found"));
+    public FeedbackDTO getFeedbackForEvent(Integer eventId) {
+        EventParticipant participant = currentActor.getParticipant();
 
         Feedback feedback = feedbackRepository.findByEventIdAndParticipantId(eventId, participant.getId()).orElse(null);
 
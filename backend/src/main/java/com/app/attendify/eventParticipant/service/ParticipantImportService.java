@@ -0,0 +1,220 @@
+package com.app.attendify.eventParticipant.service;
+
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.Department;
+import com.app.attendify.company.repository.DepartmentRepository;
+import com.app.attendify.eventParticipant.dto.EventParticipantRegisterDto;
+import com.app.attendify.eventParticipant.dto.ParticipantImportErrorDTO;
+import com.app.attendify.eventParticipant.dto.ParticipantImportReportDTO;
+import com.app.attendify.eventParticipant.enums.ParticipantImportFormat;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.security.model.Role;
+import com.app.attendify.security.model.RoleEnum;
+import com.app.attendify.security.model.User;
+import com.app.attendify.security.repositories.RoleRepository;
+import com.app.attendify.security.repositories.UserRepository;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class ParticipantImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final UserRepository userRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final DepartmentRepository departmentRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor passwordHashExecutor;
+    private final int batchSize;
+
+    @Autowired
+    public ParticipantImportService(UserRepository userRepository, EventParticipantRepository eventParticipantRepository, DepartmentRepository departmentRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, Validator validator, ObjectMapper objectMapper, TransactionTemplate transactionTemplate, @Qualifier("passwordHashExecutor") AsyncTaskExecutor passwordHashExecutor, @Value("${attendify.participant-import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.departmentRepository = departmentRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.batchSize = batchSize;
+    }
+
+    public ParticipantImportReportDTO importParticipants(InputStream input, ParticipantImportFormat format, Company company) throws IOException {
+        Role participantRole = roleRepository.findByName(RoleEnum.EVENT_PARTICIPANT).orElseThrow(() -> new RuntimeException("Role not found"));
+        Map<Integer, Department> departments = departmentRepository.findByCompany(company).stream().collect(Collectors.toMap(Department::getId, Function.identity()));
+
+        ImportRun run = new ImportRun();
+        ObjectReader reader = format == ParticipantImportFormat.CSV ? CSV_MAPPER.readerForMapOf(String.class).with(CsvSchema.emptySchema().withHeader()) : objectMapper.readerForMapOf(Object.class);
+
+        try (MappingIterator<Map<String, Object>> rows = reader.readValues(input)) {
+            while (true) {
+                Map<String, Object> values;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    values = rows.nextValue();
+                } catch (IOException | RuntimeJsonMappingException e) {
+                    run.totalRows++;
+                    run.fail(run.totalRows, null, "Unreadable row, import stopped: " + e.getMessage());
+                    break;
+                }
+
+                run.totalRows++;
+                readRow(run, values, departments);
+                if (run.batch.size() >= batchSize) {
+                    flush(run, participantRole, company, departments);
+                }
+            }
+        }
+        flush(run, participantRole, company, departments);
+
+        logger.info("Imported {} of {} participants for company {}", run.importedCount, run.totalRows, company.getId());
+        return new ParticipantImportReportDTO(run.totalRows, run.importedCount, run.failedCount, run.failedCount > run.errors.size(), run.errors);
+    }
+
+    private void readRow(ImportRun run, Map<String, Object> values, Map<Integer, Department> departments) {
+        values.replaceAll((column, value) -> value instanceof String text ? (text.isBlank() ? null : text.trim()) : value);
+        String email = values.get("email") instanceof String text ? text : null;
+
+        EventParticipantRegisterDto input;
+        try {
+            input = objectMapper.convertValue(values, EventParticipantRegisterDto.class);
+        } catch (IllegalArgumentException e) {
+            run.fail(run.totalRows, email, describeConversionError(e));
+            return;
+        }
+
+        String error = validate(input, departments);
+        if (error == null && !run.seenEmails.add(input.getEmail())) {
+            error = "Duplicate email in import";
+        }
+        if (error != null) {
+            run.fail(run.totalRows, email, error);
+            return;
+        }
+
+        run.batch.add(new PendingRow(run.totalRows, input));
+    }
+
+    private String validate(EventParticipantRegisterDto input, Map<Integer, Department> departments) {
+        String violations = validator.validate(input).stream().filter(violation -> !"token".equals(violation.getPropertyPath().toString())).sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString())).map(ConstraintViolation::getMessage).collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            return violations;
+        }
+        if (input.getDepartmentId() == null) {
+            return "Department ID is required";
+        }
+        if (!departments.containsKey(input.getDepartmentId())) {
+            return "Invalid department";
+        }
+        return null;
+    }
+
+    private void flush(ImportRun run, Role participantRole, Company company, Map<Integer, Department> departments) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+
+        List<PendingRow> batch = new ArrayList<>(run.batch);
+        run.batch.clear();
+
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(batch.stream().map(row -> row.input().getEmail()).toList()));
+        List<PendingRow> accepted = new ArrayList<>();
+        for (PendingRow row : batch) {
+            if (existingEmails.contains(row.input().getEmail())) {
+                run.fail(row.row(), row.input().getEmail(), "User already exists");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashing = accepted.stream().map(row -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.input().getPassword()), passwordHashExecutor)).toList();
+        List<String> passwordHashes = hashing.stream().map(CompletableFuture::join).toList();
+        List<User> users = IntStream.range(0, accepted.size()).mapToObj(i -> new User().setEmail(accepted.get(i).input().getEmail()).setFullName(accepted.get(i).input().getName()).setPassword(passwordHashes.get(i)).setRole(participantRole).setEmailVerificationToken(UUID.randomUUID().toString()).setEmailVerified(true)).toList();
+        List<EventParticipant> participants = IntStream.range(0, accepted.size()).mapToObj(i -> new EventParticipant().setUser(users.get(i)).setCompany(company).setAge(accepted.get(i).input().getAge()).setYearsOfExperience(accepted.get(i).input().getYearsOfExperience()).setGender(accepted.get(i).input().getGender()).setEducationLevel(accepted.get(i).input().getEducationLevel()).setOccupation(accepted.get(i).input().getOccupation()).setDepartment(departments.get(accepted.get(i).input().getDepartmentId()))).toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                eventParticipantRepository.saveAll(participants);
+            });
+            run.importedCount += accepted.size();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to save participant import batch of {} rows for company {}", accepted.size(), company.getId(), e);
+            accepted.forEach(row -> run.fail(row.row(), row.input().getEmail(), "Could not be saved: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private static String describeConversionError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            return "Invalid value for " + mappingException.getPath().get(0).getFieldName();
+        }
+        return "Invalid row";
+    }
+
+    private record PendingRow(long row, EventParticipantRegisterDto input) {
+    }
+
+    private static class ImportRun {
+
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<ParticipantImportErrorDTO> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+
+        private void fail(long row, String email, String error) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ParticipantImportErrorDTO(row, email, error));
+            }
+        }
+    }
+}
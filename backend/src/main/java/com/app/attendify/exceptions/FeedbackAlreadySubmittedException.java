@@ -0,0 +1,8 @@
+package com.app.attendify.exceptions;
+
+public class FeedbackAlreadySubmittedException extends RuntimeException {
+
+    public FeedbackAlreadySubmittedException(String message) {
+        super(message);
+    }
+}
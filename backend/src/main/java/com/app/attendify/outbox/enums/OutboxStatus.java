@@ -0,0 +1,8 @@
+package com.app.attendify.outbox.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
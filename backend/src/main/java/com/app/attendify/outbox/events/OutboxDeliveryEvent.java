@@ -0,0 +1,9 @@
+package com.app.attendify.outbox.events;
+
+import com.app.attendify.outbox.model.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OutboxDeliveryEvent(List<OutboxMessage> messages, LocalDateTime claimedAt) {
+}
@@ -0,0 +1,154 @@
+package com.app.attendify.outbox.model;
+
+import com.app.attendify.outbox.enums.OutboxStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox", indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at, id"))
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    private Integer invitationId;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public OutboxMessage setId(Integer id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public OutboxMessage setRecipient(String recipient) {
+        this.recipient = recipient;
+        return this;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public OutboxMessage setSubject(String subject) {
+        this.subject = subject;
+        return this;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public OutboxMessage setBody(String body) {
+        this.body = body;
+        return this;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public OutboxMessage setStatus(OutboxStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public OutboxMessage setAttempts(int attempts) {
+        this.attempts = attempts;
+        return this;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public OutboxMessage setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        return this;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public OutboxMessage setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+        return this;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public OutboxMessage setLastError(String lastError) {
+        this.lastError = lastError;
+        return this;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OutboxMessage setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public OutboxMessage setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+        return this;
+    }
+
+    public Integer getInvitationId() {
+        return invitationId;
+    }
+
+    public OutboxMessage setInvitationId(Integer invitationId) {
+        this.invitationId = invitationId;
+        return this;
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.attendify.outbox.repository;
+
+import com.app.attendify.outbox.enums.OutboxStatus;
+import com.app.attendify.outbox.model.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxMessage o WHERE o.status = com.app.attendify.outbox.enums.OutboxStatus.PENDING AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<OutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.status = com.app.attendify.outbox.enums.OutboxStatus.PENDING, o.claimedAt = NULL WHERE o.status = com.app.attendify.outbox.enums.OutboxStatus.SENDING AND o.claimedAt < :cutoff")
+    int releaseStaleClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,128 @@
+package com.app.attendify.outbox.services;
+
+import com.app.attendify.outbox.enums.OutboxStatus;
+import com.app.attendify.outbox.model.OutboxMessage;
+import com.app.attendify.outbox.repository.OutboxMessageRepository;
+import com.app.attendify.utils.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxService outboxService;
+    private final JavaMailSender mailSender;
+    private final AsyncTaskExecutor mailExecutor;
+    private final RateLimiter rateLimiter;
+    private final int batchSize;
+    private final int chunkSize;
+
+    @Autowired
+    public OutboxDispatcher(OutboxService outboxService, OutboxMessageRepository outboxMessageRepository, JavaMailSender mailSender, @Qualifier("mailExecutor") AsyncTaskExecutor mailExecutor, MeterRegistry meterRegistry, @Value("${attendify.outbox.rate-per-second:10}") double ratePerSecond, @Value("${attendify.outbox.batch-size:200}") int batchSize, @Value("${attendify.outbox.messages-per-connection:20}") int chunkSize) {
+        this.outboxService = outboxService;
+        this.mailSender = mailSender;
+        this.mailExecutor = mailExecutor;
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+
+        for (OutboxStatus status : List.of(OutboxStatus.PENDING, OutboxStatus.DEAD)) {
+            Gauge.builder("attendify.outbox.messages", outboxMessageRepository, repository -> repository.countByStatus(status)).tag("status", status.name()).register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${attendify.outbox.poll-interval-ms:1000}", initialDelayString = "${attendify.outbox.initial-delay-ms:5000}")
+    public void drain() {
+        List<OutboxMessage> claimed;
+        do {
+            LocalDateTime claimedAt = LocalDateTime.now();
+            claimed = outboxService.claimDue(batchSize, claimedAt);
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            Map<Integer, String> errors;
+            try {
+                errors = send(claimed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Outbox delivery interrupted, {} claimed messages will be retried", claimed.size());
+                return;
+            }
+
+            outboxService.recordResults(claimed, errors, claimedAt);
+            logger.info("Delivered {} of {} outbox messages", claimed.size() - errors.size(), claimed.size());
+        } while (claimed.size() == batchSize);
+    }
+
+    private Map<Integer, String> send(List<OutboxMessage> messages) throws InterruptedException {
+        List<CompletableFuture<Map<Integer, String>>> deliveries = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += chunkSize) {
+            List<OutboxMessage> chunk = messages.subList(from, Math.min(from + chunkSize, messages.size()));
+            rateLimiter.acquire(chunk.size());
+            deliveries.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk), mailExecutor));
+        }
+
+        Map<Integer, String> errors = new HashMap<>();
+        for (CompletableFuture<Map<Integer, String>> delivery : deliveries) {
+            try {
+                errors.putAll(delivery.get());
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Outbox delivery failed unexpectedly", e.getCause());
+            }
+        }
+        return errors;
+    }
+
+    private Map<Integer, String> sendChunk(List<OutboxMessage> chunk) {
+        Map<SimpleMailMessage, Integer> ids = new IdentityHashMap<>();
+        for (OutboxMessage message : chunk) {
+            SimpleMailMessage email = new SimpleMailMessage();
+            email.setTo(message.getRecipient());
+            email.setSubject(message.getSubject());
+            email.setText(message.getBody());
+            ids.put(email, message.getId());
+        }
+
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            mailSender.send(ids.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((email, exception) -> errors.put(ids.get(email), describe(exception)));
+            if (errors.isEmpty() || errors.containsKey(null)) {
+                errors.clear();
+                ids.values().forEach(id -> errors.put(id, describe(e)));
+            }
+        } catch (MailException e) {
+            ids.values().forEach(id -> errors.put(id, describe(e)));
+        }
+        return errors;
+    }
+
+    private static String describe(Exception e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+}
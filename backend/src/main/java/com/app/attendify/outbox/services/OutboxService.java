@@ -0,0 +1,97 @@
+package com.app.attendify.outbox.services;
+
+import com.app.attendify.outbox.enums.OutboxStatus;
+import com.app.attendify.outbox.events.OutboxDeliveryEvent;
+import com.app.attendify.outbox.model.OutboxMessage;
+import com.app.attendify.outbox.repository.OutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 3_600_000;
+    private static final String UPDATE_OUTBOX_SQL = "UPDATE outbox SET status = ?, attempts = ?, last_error = ?, next_attempt_at = ?, sent_at = ?, claimed_at = NULL WHERE id = ?";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long claimTimeoutMillis;
+
+    @Autowired
+    public OutboxService(OutboxMessageRepository outboxMessageRepository, JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher, @Value("${attendify.outbox.max-attempts:5}") int maxAttempts, @Value("${attendify.outbox.retry-backoff-ms:30000}") long retryBackoffMillis, @Value("${attendify.outbox.claim-timeout-ms:300000}") long claimTimeoutMillis) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String recipient, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxMessageRepository.save(new OutboxMessage().setRecipient(recipient).setSubject(subject).setBody(body).setNextAttemptAt(now).setCreatedAt(now));
+    }
+
+    @Transactional
+    public List<OutboxMessage> claimDue(int batchSize, LocalDateTime claimedAt) {
+        int released = outboxMessageRepository.releaseStaleClaims(claimedAt.minusNanos(claimTimeoutMillis * 1_000_000));
+        if (released > 0) {
+            logger.warn("Released {} outbox messages whose delivery did not complete", released);
+        }
+
+        List<OutboxMessage> due = outboxMessageRepository.findDueForUpdate(claimedAt, PageRequest.of(0, batchSize));
+        due.forEach(message -> message.setStatus(OutboxStatus.SENDING).setClaimedAt(claimedAt));
+        return due;
+    }
+
+    @Transactional
+    public void recordResults(List<OutboxMessage> messages, Map<Integer, String> errors, LocalDateTime claimedAt) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (OutboxMessage message : messages) {
+            String error = errors.get(message.getId());
+            message.setAttempts(message.getAttempts() + 1).setLastError(truncate(error)).setClaimedAt(null);
+            if (error == null) {
+                message.setStatus(OutboxStatus.SENT).setSentAt(now);
+            } else if (message.getAttempts() >= maxAttempts) {
+                message.setStatus(OutboxStatus.DEAD);
+                logger.error("Outbox message {} to {} dead-lettered after {} attempts: {}", message.getId(), message.getRecipient(), message.getAttempts(), error);
+            } else {
+                message.setStatus(OutboxStatus.PENDING).setNextAttemptAt(now.plusNanos(backoffMillis(message.getAttempts()) * 1_000_000));
+                logger.warn("Outbox message {} to {} failed on attempt {}, retrying at {}: {}", message.getId(), message.getRecipient(), message.getAttempts(), message.getNextAttemptAt(), error);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_OUTBOX_SQL, messages.stream().map(message -> new Object[]{message.getStatus().name(), message.getAttempts(), message.getLastError(), Timestamp.valueOf(message.getNextAttemptAt()), message.getSentAt() != null ? Timestamp.valueOf(message.getSentAt()) : null, message.getId()}).toList());
+
+        eventPublisher.publishEvent(new OutboxDeliveryEvent(messages, claimedAt));
+    }
+
+    private long backoffMillis(int attempts) {
+        return Math.min(MAX_BACKOFF_MILLIS, retryBackoffMillis << Math.min(attempts - 1, 20));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -1,10 +1,13 @@
 package com.app.attendify.security.controller;
 
+import com.app.attendify.company.dto.InvitationJobDTO;
 import com.app.attendify.company.dto.InvitationRequestDto;
 import com.app.attendify.company.model.Company;
 import com.app.attendify.company.model.Invitation;
-import com.app.attendify.company.repository.CompanyRepository;
 import com.app.attendify.eventParticipant.dto.EventParticipantRegisterDto;
+import com.app.attendify.eventParticipant.dto.ParticipantImportReportDTO;
+import com.app.attendify.eventParticipant.enums.ParticipantImportFormat;
+import com.app.attendify.eventParticipant.service.ParticipantImportService;
 import com.app.attendify.exceptions.EmailAlreadyExistsException;
 import com.app.attendify.security.dto.LoginUserDto;
 import com.app.attendify.eventOrganizer.dto.RegisterEventOrganizerDto;
@@ -12,16 +15,27 @@ import com.app.attendify.security.model.User;
 import com.app.attendify.security.repositories.UserRepository;
 import com.app.attendify.security.response.LoginResponse;
 import com.app.attendify.security.services.AuthenticationService;
+import com.app.attendify.company.services.InvitationJobService;
 import com.app.attendify.company.services.InvitationService;
 import com.app.attendify.security.services.JwtService;
+import com.app.attendify.security.services.TokenRevocationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,15 +48,19 @@ public class AuthenticationController {
     private final AuthenticationService authenticationService;
     private final UserRepository userRepository;
     private final InvitationService invitationService;
-    private final CompanyRepository companyRepository;
+    private final InvitationJobService invitationJobService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ParticipantImportService participantImportService;
 
     @Autowired
-    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService, UserRepository userRepository, InvitationService invitationService, CompanyRepository companyRepository) {
+    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService, UserRepository userRepository, InvitationService invitationService, InvitationJobService invitationJobService, TokenRevocationService tokenRevocationService, ParticipantImportService participantImportService) {
         this.jwtService = jwtService;
         this.authenticationService = authenticationService;
         this.userRepository = userRepository;
         this.invitationService = invitationService;
-        this.companyRepository = companyRepository;
+        this.invitationJobService = invitationJobService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.participantImportService = participantImportService;
     }
 
     @PostMapping("/register-organizer")
@@ -101,7 +119,7 @@ public class AuthenticationController {
         try {
             User authenticatedUser = authenticationService.authenticate(loginUserDto);
 
-            String jwtToken = jwtService.generateToken(authenticatedUser);
+            String jwtToken = jwtService.generateToken(authenticationService.buildTokenClaims(authenticatedUser), authenticatedUser);
 
             LoginResponse loginResponse = new LoginResponse().setToken(jwtToken).setExpiresIn(jwtService.getExpirationTime()).setRole(authenticatedUser.getRole().getName().name());
 
@@ -113,17 +131,55 @@ public class AuthenticationController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Not authenticated");
+        }
+
+        tokenRevocationService.revokeTokensIssuedBefore(authentication.getName(), new Date());
+        return ResponseEntity.ok("Logged out successfully.");
+    }
+
     @PostMapping("/invitation/sendBulk")
-    public ResponseEntity<String> sendBulkInvitation(@RequestBody InvitationRequestDto invitationRequestDto) {
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<Object> sendBulkInvitation(@RequestBody InvitationRequestDto invitationRequestDto) {
         try {
-            Integer companyId = invitationRequestDto.getCompanyId();
-            List<InvitationRequestDto.EmailDepartment> emails = invitationRequestDto.getEmails();
+            Company company = authenticationService.getLoggedInOrganizerCompany();
+            if (invitationRequestDto.getCompanyId() != null && !invitationRequestDto.getCompanyId().equals(company.getId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Invitations can only be sent for your own company.");
+            }
 
-            Company company = companyRepository.findById(companyId).orElseThrow(() -> new RuntimeException("Company not found"));
+            InvitationJobDTO job = invitationJobService.enqueue(invitationRequestDto.getEmails(), company);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/invitation/jobs/{jobId}")
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<InvitationJobDTO> getInvitationJob(@PathVariable Integer jobId) {
+        try {
+            Company company = authenticationService.getLoggedInOrganizerCompany();
+            return ResponseEntity.ok(invitationJobService.getJob(jobId, company.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping(value = "/participants/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('EVENT_ORGANIZER')")
+    public ResponseEntity<Object> importParticipants(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        try {
+            Company company = authenticationService.getLoggedInOrganizerCompany();
+            ParticipantImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv")) ? ParticipantImportFormat.CSV : ParticipantImportFormat.NDJSON;
 
-            invitationService.sendBulkInvitations(emails, company);
+            ParticipantImportReportDTO report = participantImportService.importParticipants(body, format, company);
 
-            return ResponseEntity.ok("Invitations sent successfully.");
+            return ResponseEntity.ok(report);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
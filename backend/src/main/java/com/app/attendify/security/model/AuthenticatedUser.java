@@ -0,0 +1,50 @@
+package com.app.attendify.security.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+public class AuthenticatedUser implements UserDetails {
+
+    private final Integer userId;
+    private final String email;
+    private final RoleEnum role;
+    private final Integer companyId;
+
+    public AuthenticatedUser(Integer userId, String email, RoleEnum role, Integer companyId) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.companyId = companyId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public RoleEnum getRole() {
+        return role;
+    }
+
+    public Integer getCompanyId() {
+        return companyId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
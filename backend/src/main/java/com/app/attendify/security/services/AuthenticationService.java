@@ -5,12 +5,14 @@ import com.app.attendify.company.model.Department;
 import com.app.attendify.company.model.Invitation;
 import com.app.attendify.company.repository.CompanyRepository;
 import com.app.attendify.company.repository.DepartmentRepository;
+import com.app.attendify.company.services.CompanyService;
 import com.app.attendify.company.services.InvitationService;
 import com.app.attendify.eventOrganizer.model.EventOrganizer;
 import com.app.attendify.eventParticipant.dto.EventParticipantRegisterDto;
 import com.app.attendify.eventParticipant.model.EventParticipant;
 import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
 import com.app.attendify.exceptions.EmailAlreadyExistsException;
+import com.app.attendify.outbox.services.OutboxService;
 import com.app.attendify.security.dto.LoginUserDto;
 import com.app.attendify.eventOrganizer.dto.RegisterEventOrganizerDto;
 import com.app.attendify.security.model.*;
@@ -19,18 +21,17 @@ import com.app.attendify.security.repositories.RoleRepository;
 import com.app.attendify.security.repositories.UserRepository;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.app.attendify.security.model.User;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -43,25 +44,30 @@ public class AuthenticationService {
     private final RoleRepository roleRepository;
     private final EventOrganizerRepository eventOrganizerRepository;
     private final CompanyRepository companyRepository;
-    private final JavaMailSender javaMailSender;
+    private final OutboxService outboxService;
     private final EventParticipantRepository eventParticipantRepository;
     private final InvitationService invitationService;
     private final DepartmentRepository departmentRepository;
+    private final CurrentActor currentActor;
+    private final CompanyService companyService;
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, RoleRepository roleRepository, EventOrganizerRepository eventOrganizerRepository, CompanyRepository companyRepository, JavaMailSender javaMailSender, EventParticipantRepository eventParticipantRepository, InvitationService invitationService, DepartmentRepository departmentRepository) {
+    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, RoleRepository roleRepository, EventOrganizerRepository eventOrganizerRepository, CompanyRepository companyRepository, OutboxService outboxService, EventParticipantRepository eventParticipantRepository, InvitationService invitationService, DepartmentRepository departmentRepository, CurrentActor currentActor, CompanyService companyService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.roleRepository = roleRepository;
         this.eventOrganizerRepository = eventOrganizerRepository;
         this.companyRepository = companyRepository;
-        this.javaMailSender = javaMailSender;
+        this.outboxService = outboxService;
         this.eventParticipantRepository = eventParticipantRepository;
         this.invitationService = invitationService;
         this.departmentRepository = departmentRepository;
+        this.currentActor = currentActor;
+        this.companyService = companyService;
     }
 
+    @Transactional
     public User registerEventOrganizer(@Valid RegisterEventOrganizerDto input) {
         if (userRepository.existsByEmail(input.getEmail())) {
             throw new EmailAlreadyExistsException("Email already exists. Please use a different email.");
@@ -73,38 +79,23 @@ public class AuthenticationService {
             throw new RuntimeException("Role not found");
         }
 
-        User organizerUser = new User().setFullName(input.getFullName()).setEmail(input.getEmail()).setPassword(passwordEncoder.encode(input.getPassword())).setRole(optionalRole.get());
-
+        User organizerUser = new User().setFullName(input.getFullName()).setEmail(input.getEmail()).setPassword(passwordEncoder.encode(input.getPassword())).setRole(optionalRole.get()).setEmailVerificationToken(UUID.randomUUID().toString());
         User savedUser = userRepository.save(organizerUser);
 
-        String verificationToken = UUID.randomUUID().toString();
-        savedUser.setEmailVerificationToken(verificationToken);
-        sendVerificationEmail(savedUser);
-        userRepository.save(savedUser);
-
-        EventOrganizer eventOrganizer = new EventOrganizer();
-        eventOrganizer.setUser(savedUser);
-        eventOrganizerRepository.save(eventOrganizer);
-
-        Company company = new Company().setName(input.getCompanyName()).setDescription(input.getCompanyDescription()).setOwner(eventOrganizer);
-
-        companyRepository.save(company);
-
+        EventOrganizer eventOrganizer = eventOrganizerRepository.save(new EventOrganizer().setUser(savedUser));
+        Company company = companyRepository.save(new Company().setName(input.getCompanyName()).setDescription(input.getCompanyDescription()).setOwner(eventOrganizer));
         eventOrganizer.setCompany(company);
-        eventOrganizerRepository.save(eventOrganizer);
 
         if (input.getDepartmentNames() != null) {
-            for (String departmentName : input.getDepartmentNames()) {
-                Department department = new Department();
-                department.setName(departmentName);
-                department.setCompany(company);
-                departmentRepository.save(department);
-            }
+            companyService.createDepartments(company, input.getDepartmentNames());
         }
 
+        sendVerificationEmail(savedUser);
+
         return savedUser;
     }
 
+    @Transactional
     public void registerEventParticipant(@Valid EventParticipantRegisterDto input) {
         try {
             Invitation invitation = validateInvitation(input.getToken());
@@ -161,12 +152,7 @@ public class AuthenticationService {
     private void sendVerificationEmail(User user) {
         String verificationUrl = "https://attendify-backend-el2r.onrender.com/api/auth/verify-email?token=" + user.getEmailVerificationToken();
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(user.getEmail());
-        message.setSubject("Email Verification");
-        message.setText("Please verify your email by clicking the link below:\n" + verificationUrl);
-
-        javaMailSender.send(message);
+        outboxService.enqueue(user.getEmail(), "Email Verification", "Please verify your email by clicking the link below:\n" + verificationUrl);
     }
 
     public User authenticate(LoginUserDto input) {
@@ -185,14 +171,27 @@ public class AuthenticationService {
         return user;
     }
 
-    public Company getLoggedInOrganizerCompany() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
+    public Map<String, Object> buildTokenClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtService.ROLE_CLAIM, user.getRole().getName().name());
+        claims.put(JwtService.USER_ID_CLAIM, user.getId());
+
+        Company company;
+        if (user.getRole().getName() == RoleEnum.EVENT_ORGANIZER) {
+            company = eventOrganizerRepository.findByUser(user).map(EventOrganizer::getCompany).orElse(null);
+        } else {
+            EventParticipant participant = eventParticipantRepository.findByUser(user);
+            company = participant != null ? participant.getCompany() : null;
+        }
+        if (company != null) {
+            claims.put(JwtService.COMPANY_ID_CLAIM, company.getId());
+        }
 
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        return claims;
+    }
 
-        EventOrganizer eventOrganizer = eventOrganizerRepository.findByUser(user).orElseThrow(() -> new RuntimeException("Event organizer not found"));
-        Company company = eventOrganizer.getCompany();
+    public Company getLoggedInOrganizerCompany() {
+        Company company = currentActor.getOrganizer().getCompany();
 
         List<Department> departments = company.getDepartments();
 
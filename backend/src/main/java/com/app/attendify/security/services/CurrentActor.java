@@ -0,0 +1,83 @@
+package com.app.attendify.security.services;
+
+import com.app.attendify.eventOrganizer.model.EventOrganizer;
+import com.app.attendify.eventOrganizer.repository.EventOrganizerRepository;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.security.model.AuthenticatedUser;
+import com.app.attendify.security.model.User;
+import com.app.attendify.security.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+
+@Component
+@RequestScope
+public class CurrentActor {
+
+    private final UserRepository userRepository;
+    private final EventOrganizerRepository eventOrganizerRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+
+    private User user;
+    private EventOrganizer organizer;
+    private EventParticipant participant;
+
+    @Autowired
+    public CurrentActor(UserRepository userRepository, EventOrganizerRepository eventOrganizerRepository, EventParticipantRepository eventParticipantRepository) {
+        this.userRepository = userRepository;
+        this.eventOrganizerRepository = eventOrganizerRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+    }
+
+    public String getEmail() {
+        return getAuthentication().getName();
+    }
+
+    public User getUser() {
+        if (user == null) {
+            if (getAuthentication().getPrincipal() instanceof User authenticatedUser) {
+                user = authenticatedUser;
+            } else {
+                String email = getEmail();
+                user = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("User not found for email: " + email));
+            }
+        }
+        return user;
+    }
+
+    public EventOrganizer getOrganizer() {
+        if (organizer == null) {
+            Object principal = getAuthentication().getPrincipal();
+            Optional<EventOrganizer> found = principal instanceof AuthenticatedUser authenticatedUser ? eventOrganizerRepository.findByUser_Id(authenticatedUser.getUserId()) : eventOrganizerRepository.findByUser(getUser());
+            organizer = found.orElseThrow(() -> new IllegalArgumentException("Organizer not found for user: " + getEmail()));
+        }
+        return organizer;
+    }
+
+    public Integer getCompanyId() {
+        if (getAuthentication().getPrincipal() instanceof AuthenticatedUser authenticatedUser && authenticatedUser.getCompanyId() != null) {
+            return authenticatedUser.getCompanyId();
+        }
+        return getOrganizer().getCompany().getId();
+    }
+
+    public EventParticipant getParticipant() {
+        if (participant == null) {
+            participant = eventParticipantRepository.findByUser_Email(getEmail()).orElseThrow(() -> new IllegalArgumentException("Participant not found for user: " + getEmail()));
+        }
+        return participant;
+    }
+
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException("No authenticated user for the current request");
+        }
+        return authentication;
+    }
+}
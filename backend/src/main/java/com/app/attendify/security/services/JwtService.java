@@ -2,17 +2,28 @@ package com.app.attendify.security.services;
 
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import com.app.attendify.security.model.AuthenticatedUser;
+import com.app.attendify.security.model.RoleEnum;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -20,12 +31,36 @@ import org.springframework.stereotype.Service;
 @Service
 public class JwtService {
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String COMPANY_ID_CLAIM = "companyId";
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+
     @Value("${security.jwt.secret-key}")
     private String secretKey;
 
     @Value("${security.jwt.expiration-time}")
     private long jwtExpiration;
 
+    @Value("${security.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    private Key signInKey;
+    private JwtParser jwtParser;
+    private Map<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parser().setSigningKey(signInKey).build();
+        claimsCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        });
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -48,28 +83,56 @@ public class JwtService {
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts.builder().setClaims(extraClaims).setSubject(userDetails.getUsername()).setIssuedAt(new Date(System.currentTimeMillis())).setExpiration(new Date(System.currentTimeMillis() + expiration)).signWith(getSignInKey(), SignatureAlgorithm.HS256).compact();
+        long issuedAt = System.currentTimeMillis();
+        return Jwts.builder().setClaims(extraClaims).claim(ISSUED_AT_MILLIS_CLAIM, issuedAt).setSubject(userDetails.getUsername()).setIssuedAt(new Date(issuedAt)).setExpiration(new Date(issuedAt + expiration)).signWith(signInKey, SignatureAlgorithm.HS256).compact();
+    }
+
+    public Date extractIssuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public AuthenticatedUser extractPrincipal(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+        if (role == null || userId == null) {
+            return null;
+        }
+
+        return new AuthenticatedUser(userId, claims.getSubject(), RoleEnum.valueOf(role), claims.get(COMPANY_ID_CLAIM, Integer.class));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public Claims extractAllClaims(String token) {
+        String cacheKey = hashToken(token);
+        Claims cached = claimsCache.get(cacheKey);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                claimsCache.remove(cacheKey);
+                throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+            }
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(cacheKey, claims);
+        return claims;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(getSignInKey()).build().parseClaimsJws(token).getBody();
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
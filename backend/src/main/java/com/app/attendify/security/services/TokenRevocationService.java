@@ -0,0 +1,29 @@
+package com.app.attendify.security.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenRevocationService {
+
+    private final Map<String, Long> notBeforeByEmail = new ConcurrentHashMap<>();
+
+    @Value("${security.jwt.expiration-time}")
+    private long jwtExpiration;
+
+    public void revokeTokensIssuedBefore(String email, Date cutoff) {
+        notBeforeByEmail.merge(email, cutoff.getTime(), Math::max);
+
+        long oldestRelevant = System.currentTimeMillis() - jwtExpiration;
+        notBeforeByEmail.values().removeIf(notBefore -> notBefore < oldestRelevant);
+    }
+
+    public boolean isRevoked(String email, Date issuedAt) {
+        Long notBefore = notBeforeByEmail.get(email);
+        return notBefore != null && (issuedAt == null || issuedAt.getTime() <= notBefore);
+    }
+}
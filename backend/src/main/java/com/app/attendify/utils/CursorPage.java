@@ -0,0 +1,33 @@
+package com.app.attendify.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public record CursorPage<T>(T content, String nextCursor) {
+
+    public static Pageable pageRequest(String cursor, Integer size, int maxSize) {
+        if (cursor == null && size == null) {
+            return Pageable.unpaged();
+        }
+        int pageSize = size != null ? Math.max(1, Math.min(size, maxSize)) : maxSize;
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    public static <R> List<R> trim(List<R> rows, Pageable pageable) {
+        if (pageable.isPaged() && rows.size() >= pageable.getPageSize()) {
+            return rows.subList(0, pageable.getPageSize() - 1);
+        }
+        return rows;
+    }
+
+    public ResponseEntity<T> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(PageCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(content);
+    }
+}
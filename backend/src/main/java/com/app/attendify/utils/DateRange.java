@@ -0,0 +1,6 @@
+package com.app.attendify.utils;
+
+import java.time.LocalDateTime;
+
+public record DateRange(LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,47 @@
+package com.app.attendify.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record PageCursor(String sort, String value, int id) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static PageCursor first(String sort) {
+        return new PageCursor(sort, "", 0);
+    }
+
+    public static PageCursor decode(String cursor, String sort, String supportedSort) {
+        if (!supportedSort.equals(sort)) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sortEnd = decoded.indexOf('|');
+            int valueEnd = decoded.lastIndexOf('|');
+            if (sortEnd < 0 || valueEnd <= sortEnd) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            PageCursor pageCursor = new PageCursor(decoded.substring(0, sortEnd), decoded.substring(sortEnd + 1, valueEnd), Integer.parseInt(decoded.substring(valueEnd + 1)));
+            if (!pageCursor.sort().equals(sort)) {
+                throw new IllegalArgumentException("Cursor was issued for sort '" + pageCursor.sort() + "', not '" + sort + "'");
+            }
+            return pageCursor;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public PageCursor next(String value, int id) {
+        return new PageCursor(sort, value != null ? value : "", id);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((sort + "|" + value + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,31 @@
+create table agenda_item (event_id integer, id integer generated by default as identity, end_time timestamp(6) not null, start_time timestamp(6) not null, description varchar(255) not null, title varchar(255) not null, primary key (id));
+create table company (id integer generated by default as identity, owner_id integer unique, description varchar(255) not null, name varchar(255) not null, primary key (id));
+create table department (company_id integer, id integer generated by default as identity, name varchar(255) not null, primary key (id));
+create table event (attendee_limit integer, available_for_all_departments boolean not null, company_id integer, feedback_submitted boolean not null, id integer generated by default as identity, join_approval boolean not null, organizer_id integer, event_end_date timestamp(6) not null, event_start_date timestamp(6) not null, join_deadline timestamp(6), description varchar(255) not null, location varchar(255) not null, name varchar(255) not null, primary key (id));
+create table event_department (department_id integer not null, event_id integer not null);
+create table event_attendance (event_id integer not null, id integer generated by default as identity, participant_id integer not null, status varchar(255) constraint event_attendance_status_check check (status in ('PENDING','ACCEPTED','REJECTED')), primary key (id));
+create table event_organizer (company_id integer, id integer generated by default as identity, user_id integer unique, primary key (id));
+create table event_participant (age integer not null, company_id integer, department_id integer, id integer generated by default as identity, user_id integer unique, years_of_experience integer not null, education_level varchar(255) not null check (education_level in ('HIGH_SCHOOL','BACHELOR','MASTER','PHD','OTHER')), gender varchar(255) not null check (gender in ('MALE','FEMALE','OTHER')), occupation varchar(255) not null check (occupation in ('SOFTWARE_ENGINEER','DESIGNER','DATA_SCIENTIST','PRODUCT_MANAGER','MARKETING_SPECIALIST')), primary key (id));
+create table feedback (event_id integer not null, id integer generated by default as identity, participant_id integer not null, rating integer not null, comments varchar(255) not null, primary key (id));
+create table invitation (accepted boolean not null, company_id integer, department_id integer, id integer generated by default as identity, created_at timestamp(6) not null, expiration_date timestamp(6) not null, email varchar(255) not null, token varchar(255) not null unique, primary key (id));
+create table roles (id integer generated by default as identity, created_at timestamp(6), updated_at timestamp(6), description varchar(255) not null, name varchar(255) not null unique check (name in ('EVENT_ORGANIZER','EVENT_PARTICIPANT')), primary key (id));
+create table users (email_verified boolean not null, id integer generated by default as identity, role_id integer not null, created_at timestamp(6), updated_at timestamp(6), email_verification_token varchar(64), email varchar(100) not null unique, full_name varchar(255) not null, password varchar(255) not null, primary key (id));
+alter table if exists agenda_item add constraint FK6tmvbq63jtspgdw7x2cvcyq7f foreign key (event_id) references event;
+alter table if exists company add constraint FKk60pv4iqhtra6lwaodyoevq9x foreign key (owner_id) references event_organizer;
+alter table if exists department add constraint FKh1m88q0f7sc0mk76kju4kcn6f foreign key (company_id) references company;
+alter table if exists event add constraint FKh0tm3dgooqqxj91lvw31dgpc2 foreign key (company_id) references company;
+alter table if exists event add constraint FK3m3e0vfe2j7hm1f7663ywfekf foreign key (organizer_id) references event_organizer;
+alter table if exists event_department add constraint FKkc5hebuabn4s2qm1k6c7943dq foreign key (department_id) references department;
+alter table if exists event_department add constraint FKltf21yf3jwrhijnc0drgd71bq foreign key (event_id) references event;
+alter table if exists event_attendance add constraint FK5lbaba092ogjeodk1ill2dx2c foreign key (event_id) references event;
+alter table if exists event_attendance add constraint FKsk3a38b83bax43csl34irc9i5 foreign key (participant_id) references event_participant;
+alter table if exists event_organizer add constraint FKrw3ls8gpq8x9fcdoceed12v56 foreign key (company_id) references company;
+alter table if exists event_organizer add constraint FKh4r9jmu44rv8n5gvsoejt2ury foreign key (user_id) references users;
+alter table if exists event_participant add constraint FK616ilt2xh6qxymm6q2x52atrl foreign key (company_id) references company;
+alter table if exists event_participant add constraint FKajkl4b7o7k0wtephrpcq46s14 foreign key (department_id) references department;
+alter table if exists event_participant add constraint FKkm377qccu5ohtpo6cgdtr0wq2 foreign key (user_id) references users;
+alter table if exists feedback add constraint FKjwhm48sj8827gyscux00ftf2n foreign key (event_id) references event;
+alter table if exists feedback add constraint FK51yt2h8qilg6i7f1x76ntrey9 foreign key (participant_id) references event_participant;
+alter table if exists invitation add constraint FK8thwwwybion3rys5enqmis58m foreign key (company_id) references company;
+alter table if exists invitation add constraint FK7hwvtxcev80fi27pju5gqtt4q foreign key (department_id) references department;
+alter table if exists users add constraint FKp56c1712k691lhsyewcssf40f foreign key (role_id) references roles;
@@ -0,0 +1,15 @@
+create table event_attendance_duplicate_archive (id integer not null, event_id integer not null, participant_id integer not null, status varchar(255), archived_at timestamp(6) not null, primary key (id));
+insert into event_attendance_duplicate_archive (id, event_id, participant_id, status, archived_at) select a.id, a.event_id, a.participant_id, a.status, current_timestamp from event_attendance a where exists (select 1 from event_attendance o where o.participant_id = a.participant_id and o.event_id = a.event_id and (case o.status when 'ACCEPTED' then 0 when 'PENDING' then 1 when 'REJECTED' then 2 else 3 end < case a.status when 'ACCEPTED' then 0 when 'PENDING' then 1 when 'REJECTED' then 2 else 3 end or (case o.status when 'ACCEPTED' then 0 when 'PENDING' then 1 when 'REJECTED' then 2 else 3 end = case a.status when 'ACCEPTED' then 0 when 'PENDING' then 1 when 'REJECTED' then 2 else 3 end and o.id < a.id)));
+delete from event_attendance a where exists (select 1 from event_attendance_duplicate_archive d where d.id = a.id);
+
+create table feedback_duplicate_archive (id integer not null, event_id integer not null, participant_id integer not null, rating integer not null, comments varchar(255) not null, archived_at timestamp(6) not null, primary key (id));
+insert into feedback_duplicate_archive (id, event_id, participant_id, rating, comments, archived_at) select f.id, f.event_id, f.participant_id, f.rating, f.comments, current_timestamp from feedback f where exists (select 1 from feedback o where o.event_id = f.event_id and o.participant_id = f.participant_id and o.id < f.id);
+delete from feedback f where exists (select 1 from feedback_duplicate_archive a where a.id = f.id);
+
+create unique index if not exists uk_event_attendance_participant_event on event_attendance (participant_id, event_id);
+create index if not exists idx_event_attendance_event_status on event_attendance (event_id, status, id);
+create unique index if not exists uk_feedback_event_participant on feedback (event_id, participant_id);
+create index if not exists idx_event_organizer_start on event (organizer_id, event_start_date);
+create index if not exists idx_event_company_start on event (company_id, event_start_date);
+create index if not exists idx_event_company_id on event (company_id, id);
+create unique index if not exists uk_users_email_verification_token on users (email_verification_token);
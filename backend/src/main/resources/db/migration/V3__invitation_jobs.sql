@@ -0,0 +1,10 @@
+create table invitation_job (id integer generated by default as identity, company_id integer not null, status varchar(255) not null check (status in ('QUEUED','RUNNING','COMPLETED','COMPLETED_WITH_ERRORS')), total_count integer not null, sent_count integer not null, failed_count integer not null, created_at timestamp(6) not null, started_at timestamp(6), finished_at timestamp(6), primary key (id));
+alter table if exists invitation_job add constraint fk_invitation_job_company foreign key (company_id) references company;
+
+alter table invitation add column job_id integer;
+alter table invitation add column delivery_status varchar(255) check (delivery_status in ('PENDING','SENT','FAILED'));
+alter table invitation add column delivery_attempts integer default 0 not null;
+alter table invitation add column last_error varchar(1000);
+alter table if exists invitation add constraint fk_invitation_job foreign key (job_id) references invitation_job;
+
+create index if not exists idx_invitation_job_status on invitation (job_id, delivery_status, id);
@@ -0,0 +1,4 @@
+create table outbox (id integer generated by default as identity, invitation_id integer, attempts integer not null, status varchar(255) not null check (status in ('PENDING','SENDING','SENT','DEAD')), recipient varchar(255) not null, subject varchar(255) not null, body varchar(4000) not null, last_error varchar(1000), created_at timestamp(6) not null, next_attempt_at timestamp(6) not null, claimed_at timestamp(6), sent_at timestamp(6), primary key (id));
+alter table if exists outbox add constraint fk_outbox_invitation foreign key (invitation_id) references invitation;
+
+create index if not exists idx_outbox_status_next_attempt on outbox (status, next_attempt_at, id);
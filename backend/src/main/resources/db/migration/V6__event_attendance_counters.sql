@@ -0,0 +1,4 @@
+alter table event add column accepted_count integer default 0 not null;
+alter table event add column pending_count integer default 0 not null;
+
+update event e set accepted_count = (select count(*) from event_attendance a where a.event_id = e.id and a.status = 'ACCEPTED'), pending_count = (select count(*) from event_attendance a where a.event_id = e.id and a.status = 'PENDING');
@@ -0,0 +1,9 @@
+create table event_stats (event_id integer not null, extremes_stale boolean not null, max_age integer, max_experience integer, min_age integer, min_experience integer, accepted_count bigint not null, age_sum bigint not null, experience_sum bigint not null, primary key (event_id));
+create table event_stats_department (event_id integer not null, participant_count bigint not null, department_name varchar(255) not null, primary key (event_id, department_name));
+create table event_stats_education_level (event_id integer not null, participant_count bigint not null, education_level varchar(255) not null check (education_level in ('HIGH_SCHOOL','BACHELOR','MASTER','PHD','OTHER')), primary key (event_id, education_level));
+create table event_stats_gender (event_id integer not null, participant_count bigint not null, gender varchar(255) not null check (gender in ('MALE','FEMALE','OTHER')), primary key (event_id, gender));
+create table event_stats_occupation (event_id integer not null, participant_count bigint not null, occupation varchar(255) not null check (occupation in ('SOFTWARE_ENGINEER','DESIGNER','DATA_SCIENTIST','PRODUCT_MANAGER','MARKETING_SPECIALIST')), primary key (event_id, occupation));
+alter table if exists event_stats_department add constraint FK3ia9ydijrlaix0st83b01ismx foreign key (event_id) references event_stats;
+alter table if exists event_stats_education_level add constraint FKfbm2se4icjpu6nuu6prlbki6c foreign key (event_id) references event_stats;
+alter table if exists event_stats_gender add constraint FK8l3rorrulbxlsin7j3oxtbmac foreign key (event_id) references event_stats;
+alter table if exists event_stats_occupation add constraint FKshxgp0nb96sx96fkouyi4rixq foreign key (event_id) references event_stats;
@@ -0,0 +1,2 @@
+alter table event_attendance drop constraint if exists event_attendance_status_check;
+alter table event_attendance add constraint event_attendance_status_check check (status in ('PENDING','ACCEPTED','REJECTED','WAITLISTED'));
@@ -0,0 +1,10 @@
+create table event_stats_backfill (event_id integer not null, primary key (event_id));
+insert into event_stats_backfill (event_id) select e.id from event e where not exists (select 1 from event_stats s where s.event_id = e.id);
+
+insert into event_stats (event_id, extremes_stale, max_age, max_experience, min_age, min_experience, accepted_count, age_sum, experience_sum) select b.event_id, false, max(p.age), max(p.years_of_experience), min(p.age), min(p.years_of_experience), count(p.id), coalesce(sum(p.age), 0), coalesce(sum(p.years_of_experience), 0) from event_stats_backfill b left join event_attendance a on a.event_id = b.event_id and a.status = 'ACCEPTED' left join event_participant p on p.id = a.participant_id group by b.event_id;
+insert into event_stats_gender (event_id, participant_count, gender) select a.event_id, count(*), p.gender from event_attendance a join event_participant p on p.id = a.participant_id where a.status = 'ACCEPTED' and a.event_id in (select event_id from event_stats_backfill) group by a.event_id, p.gender;
+insert into event_stats_education_level (event_id, participant_count, education_level) select a.event_id, count(*), p.education_level from event_attendance a join event_participant p on p.id = a.participant_id where a.status = 'ACCEPTED' and a.event_id in (select event_id from event_stats_backfill) group by a.event_id, p.education_level;
+insert into event_stats_occupation (event_id, participant_count, occupation) select a.event_id, count(*), p.occupation from event_attendance a join event_participant p on p.id = a.participant_id where a.status = 'ACCEPTED' and a.event_id in (select event_id from event_stats_backfill) group by a.event_id, p.occupation;
+insert into event_stats_department (event_id, participant_count, department_name) select a.event_id, count(*), d.name from event_attendance a join event_participant p on p.id = a.participant_id join department d on d.id = p.department_id where a.status = 'ACCEPTED' and a.event_id in (select event_id from event_stats_backfill) group by a.event_id, d.name;
+
+drop table event_stats_backfill;
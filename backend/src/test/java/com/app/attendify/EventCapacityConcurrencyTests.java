@@ -0,0 +1,235 @@
+package com.app.attendify;
+
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.repository.CompanyRepository;
+import com.app.attendify.event.enums.AttendanceStatus;
+import com.app.attendify.event.model.Event;
+import com.app.attendify.event.model.EventStats;
+import com.app.attendify.event.repository.EventAttendanceRepository;
+import com.app.attendify.event.repository.EventRepository;
+import com.app.attendify.event.services.EventStatsService;
+import com.app.attendify.eventParticipant.enums.EducationLevel;
+import com.app.attendify.eventParticipant.enums.Gender;
+import com.app.attendify.eventParticipant.enums.Occupation;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.eventParticipant.service.EventParticipantService;
+import com.app.attendify.security.model.Role;
+import com.app.attendify.security.model.RoleEnum;
+import com.app.attendify.security.model.User;
+import com.app.attendify.security.repositories.RoleRepository;
+import com.app.attendify.security.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event-capacity;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class EventCapacityConcurrencyTests {
+
+    private static final int ATTENDEE_LIMIT = 5;
+    private static final int PARTICIPANTS = 40;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private EventStatsService eventStatsService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventAttendanceRepository eventAttendanceRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Company company;
+    private List<String> emails;
+
+    @BeforeEach
+    void createParticipants() {
+        Role role = TestRoles.findOrCreate(roleRepository, RoleEnum.EVENT_PARTICIPANT);
+
+        company = companyRepository.save(new Company().setName("Capacity").setDescription("Capacity"));
+        emails = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            String email = "capacity-" + company.getId() + "-" + i + "@example.com";
+            User user = userRepository.save(new User().setFullName("Participant " + i).setEmail(email).setPassword("password").setRole(role));
+            eventParticipantRepository.save(new EventParticipant().setUser(user).setCompany(company).setAge(20 + i).setYearsOfExperience(i % 10).setGender(Gender.values()[i % Gender.values().length]).setEducationLevel(EducationLevel.values()[i % EducationLevel.values().length]).setOccupation(Occupation.values()[i % Occupation.values().length]));
+            emails.add(email);
+        }
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedTheAttendeeLimit() throws Exception {
+        Integer eventId = createEvent();
+
+        List<AttendanceStatus> statuses = runConcurrently(emails, email -> eventParticipantService.joinEvent(eventId));
+
+        assertEquals(ATTENDEE_LIMIT, statuses.stream().filter(status -> status == AttendanceStatus.ACCEPTED).count());
+        assertEquals(PARTICIPANTS - ATTENDEE_LIMIT, statuses.stream().filter(status -> status == AttendanceStatus.WAITLISTED).count());
+        assertCountersMatchAttendances(eventId);
+    }
+
+    @Test
+    void concurrentUnjoinsAndJoinsKeepCountersConsistent() throws Exception {
+        Integer eventId = createEvent();
+        List<String> firstWave = emails.subList(0, PARTICIPANTS / 2);
+        List<String> secondWave = emails.subList(PARTICIPANTS / 2, PARTICIPANTS);
+        runConcurrently(firstWave, email -> eventParticipantService.joinEvent(eventId));
+        List<Integer> firstAccepted = eventAttendanceRepository.findAll().stream().filter(attendance -> attendance.getEvent().getId().equals(eventId) && attendance.getStatus() == AttendanceStatus.ACCEPTED).map(attendance -> attendance.getParticipant().getId()).toList();
+        List<String> leaving = firstWave.stream().filter(email -> firstAccepted.contains(eventParticipantRepository.findByUser_Email(email).orElseThrow().getId())).toList();
+
+        List<String> mixed = new ArrayList<>(leaving);
+        mixed.addAll(secondWave);
+        runConcurrently(mixed, email -> {
+            if (leaving.contains(email)) {
+                eventParticipantService.unjoinEvent(eventId);
+            } else {
+                eventParticipantService.joinEvent(eventId);
+            }
+            return null;
+        });
+
+        assertCountersMatchAttendances(eventId);
+        assertEquals(ATTENDEE_LIMIT, eventRepository.findById(eventId).orElseThrow().getAcceptedCount());
+    }
+
+    @Test
+    void concurrentJoinsCreateAMissingRollupOnce() throws Exception {
+        Integer eventId = createEvent(false);
+
+        runConcurrently(emails, email -> eventParticipantService.joinEvent(eventId));
+
+        EventStats stats = transactionTemplate.execute(status -> eventStatsService.getStats(eventId));
+        assertEquals(ATTENDEE_LIMIT, stats.getAcceptedCount());
+        assertCountersMatchAttendances(eventId);
+    }
+
+    @Test
+    void rebuildRepairsRollupDriftFromEditedProfiles() throws Exception {
+        Integer eventId = createEvent();
+        List<String> joining = emails.subList(0, ATTENDEE_LIMIT);
+        runConcurrently(joining, email -> eventParticipantService.joinEvent(eventId));
+
+        EventParticipant edited = eventParticipantRepository.findByUser_Email(joining.get(0)).orElseThrow();
+        eventParticipantRepository.save(edited.setGender(edited.getGender() == Gender.MALE ? Gender.FEMALE : Gender.MALE).setAge(edited.getAge() + 40));
+        runConcurrently(List.of(joining.get(0)), email -> {
+            eventParticipantService.unjoinEvent(eventId);
+            return null;
+        });
+
+        eventStatsService.rebuildAll();
+
+        EventStats stats = transactionTemplate.execute(status -> {
+            EventStats rollup = eventStatsService.getStats(eventId);
+            rollup.getGenderCounts().size();
+            return rollup;
+        });
+        List<EventParticipant> accepted = eventAttendanceRepository.findAll().stream().filter(attendance -> attendance.getEvent().getId().equals(eventId) && attendance.getStatus() == AttendanceStatus.ACCEPTED).map(attendance -> eventParticipantRepository.findById(attendance.getParticipant().getId()).orElseThrow()).toList();
+        Map<Gender, Long> expectedGenders = accepted.stream().collect(Collectors.groupingBy(EventParticipant::getGender, Collectors.counting()));
+
+        assertEquals(accepted.size(), stats.getAcceptedCount());
+        assertEquals(accepted.stream().mapToLong(EventParticipant::getAge).sum(), stats.getAgeSum());
+        assertEquals(expectedGenders, stats.getGenderCounts());
+    }
+
+    private Integer createEvent() {
+        return createEvent(true);
+    }
+
+    private Integer createEvent(boolean withStats) {
+        return transactionTemplate.execute(status -> {
+            Event event = new Event().setName("Capacity").setDescription("Capacity").setLocation("Belgrade").setCompany(company).setAttendeeLimit(ATTENDEE_LIMIT).setEventStartDate(LocalDateTime.now().plusDays(7)).setEventEndDate(LocalDateTime.now().plusDays(8)).setJoinApproval(false);
+            event.setAvailableForAllDepartments(true);
+            Integer eventId = eventRepository.save(event).getId();
+            if (withStats) {
+                eventStatsService.createFor(eventId);
+            }
+            return eventId;
+        });
+    }
+
+    private void assertCountersMatchAttendances(Integer eventId) {
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        long acceptedRows = eventAttendanceRepository.findAll().stream().filter(attendance -> attendance.getEvent().getId().equals(eventId) && attendance.getStatus() == AttendanceStatus.ACCEPTED).count();
+
+        assertTrue(event.getAcceptedCount() <= ATTENDEE_LIMIT, () -> "Accepted count " + event.getAcceptedCount() + " exceeds limit " + ATTENDEE_LIMIT);
+        assertEquals(acceptedRows, event.getAcceptedCount());
+    }
+
+    private <T> List<T> runConcurrently(List<String> participantEmails, ParticipantAction<T> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (String email : participantEmails) {
+                Callable<T> task = () -> {
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+                    try {
+                        start.await();
+                        return action.run(email);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParticipantAction<T> {
+        T run(String email) throws Exception;
+    }
+}
@@ -0,0 +1,190 @@
+package com.app.attendify;
+
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.Department;
+import com.app.attendify.company.repository.CompanyRepository;
+import com.app.attendify.company.repository.DepartmentRepository;
+import com.app.attendify.event.enums.AttendanceStatus;
+import com.app.attendify.event.model.AgendaItem;
+import com.app.attendify.event.model.Event;
+import com.app.attendify.event.model.EventAttendance;
+import com.app.attendify.event.model.Feedback;
+import com.app.attendify.event.repository.EventAttendanceRepository;
+import com.app.attendify.event.repository.EventRepository;
+import com.app.attendify.event.repository.FeedbackRepository;
+import com.app.attendify.event.services.AttendanceCounterService;
+import com.app.attendify.eventOrganizer.model.EventOrganizer;
+import com.app.attendify.eventOrganizer.repository.EventOrganizerRepository;
+import com.app.attendify.eventOrganizer.services.EventOrganizerService;
+import com.app.attendify.eventParticipant.enums.EducationLevel;
+import com.app.attendify.eventParticipant.enums.Gender;
+import com.app.attendify.eventParticipant.enums.Occupation;
+import com.app.attendify.eventParticipant.model.EventParticipant;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.eventParticipant.service.EventParticipantService;
+import com.app.attendify.security.model.Role;
+import com.app.attendify.security.model.RoleEnum;
+import com.app.attendify.security.model.User;
+import com.app.attendify.security.repositories.RoleRepository;
+import com.app.attendify.security.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event-listing-queries",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EventListingQueryCountTests {
+
+    private static final long ORGANIZER_EVENTS_STATEMENTS = 8;
+    private static final long PARTICIPANT_EVENTS_STATEMENTS = 13;
+
+    @Autowired
+    private EventOrganizerService eventOrganizerService;
+
+    @Autowired
+    private EventParticipantService eventParticipantService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventOrganizerRepository eventOrganizerRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventAttendanceRepository eventAttendanceRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private AttendanceCounterService attendanceCounterService;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 12})
+    void organizerEventListingRunsAFixedNumberOfStatements(int eventCount) {
+        Fixture fixture = seed(eventCount);
+
+        long statements = countStatements(fixture.organizerEmail(), () -> assertEquals(eventCount, eventOrganizerService.getEventsByOrganizer(null, null, "id", null, null).content().getEvents().size()));
+
+        assertEquals(ORGANIZER_EVENTS_STATEMENTS, statements);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 12})
+    void participantEventListingRunsAFixedNumberOfStatements(int eventCount) {
+        Fixture fixture = seed(eventCount);
+
+        long statements = countStatements(fixture.participantEmail(), () -> assertEquals(eventCount, eventParticipantService.getEventsForParticipant(null, "id", null, null).content().getEvents().size()));
+
+        assertEquals(PARTICIPANT_EVENTS_STATEMENTS, statements);
+    }
+
+    private long countStatements(String email, Runnable listing) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        listing.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Fixture seed(int eventCount) {
+        String suffix = System.nanoTime() + "";
+        Role organizerRole = TestRoles.findOrCreate(roleRepository, RoleEnum.EVENT_ORGANIZER);
+        Role participantRole = TestRoles.findOrCreate(roleRepository, RoleEnum.EVENT_PARTICIPANT);
+
+        User organizerUser = userRepository.save(new User().setFullName("Organizer").setEmail("organizer-" + suffix + "@example.com").setPassword("password").setRole(organizerRole));
+        EventOrganizer organizer = eventOrganizerRepository.save(new EventOrganizer().setUser(organizerUser));
+        Company company = companyRepository.save(new Company().setName("Listing " + suffix).setDescription("Listing").setOwner(organizer));
+        eventOrganizerRepository.save(organizer.setCompany(company));
+
+        List<Department> departments = new ArrayList<>();
+        for (String name : List.of("Engineering", "Sales")) {
+            Department department = new Department();
+            department.setName(name);
+            department.setCompany(company);
+            departments.add(departmentRepository.save(department));
+        }
+
+        List<EventParticipant> participants = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = userRepository.save(new User().setFullName("Participant " + i).setEmail("participant-" + suffix + "-" + i + "@example.com").setPassword("password").setRole(participantRole));
+            participants.add(eventParticipantRepository.save(new EventParticipant().setUser(user).setCompany(company).setDepartment(departments.get(0)).setAge(30 + i).setYearsOfExperience(i).setGender(Gender.values()[i]).setEducationLevel(EducationLevel.values()[i]).setOccupation(Occupation.values()[i])));
+        }
+
+        LocalDateTime start = LocalDateTime.now().minusDays(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            Event event = new Event().setName("Event " + i).setDescription("Description").setLocation("Belgrade").setCompany(company).setOrganizer(organizer).setAttendeeLimit(10).setEventStartDate(start.plusDays(i * 2L)).setEventEndDate(start.plusDays(i * 2L).plusHours(2)).setJoinApproval(false);
+            event.setAvailableForAllDepartments(i % 2 == 0);
+            if (i % 2 == 1) {
+                event.setDepartments(new ArrayList<>(departments));
+            }
+            event.setAgendaItems(new ArrayList<>(List.of(new AgendaItem().setTitle("Opening").setDescription("Opening").setStartTime(event.getEventStartDate()).setEndTime(event.getEventStartDate().plusHours(1)).setEvent(event), new AgendaItem().setTitle("Closing").setDescription("Closing").setStartTime(event.getEventStartDate().plusHours(1)).setEndTime(event.getEventEndDate()).setEvent(event))));
+            eventRepository.save(event);
+
+            for (EventParticipant participant : participants) {
+                EventAttendance attendance = new EventAttendance(participant, event);
+                attendance.setStatus(AttendanceStatus.ACCEPTED);
+                eventAttendanceRepository.save(attendance);
+
+                Feedback feedback = new Feedback();
+                feedback.setEvent(event);
+                feedback.setParticipant(participant);
+                feedback.setRating(5);
+                feedback.setComments("Great");
+                feedbackRepository.save(feedback);
+            }
+        }
+        attendanceCounterService.reconcileCounters();
+
+        return new Fixture(organizerUser.getEmail(), participants.get(0).getUser().getEmail());
+    }
+
+    private record Fixture(String organizerEmail, String participantEmail) {
+    }
+}
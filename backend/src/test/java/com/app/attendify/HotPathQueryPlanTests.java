@@ -0,0 +1,66 @@
+package com.app.attendify;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotPathQueryPlanTests {
+
+    private static final String URL = "jdbc:h2:mem:query-plans;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM event_attendance WHERE participant_id = 1 AND event_id = 2 | UK_EVENT_ATTENDANCE_PARTICIPANT_EVENT",
+            "SELECT * FROM event_attendance WHERE event_id = 1 AND status = 'ACCEPTED' ORDER BY id | ",
+            "SELECT * FROM feedback WHERE event_id = 1 AND participant_id = 2 | UK_FEEDBACK_EVENT_PARTICIPANT",
+            "SELECT * FROM event WHERE organizer_id = 1 AND event_start_date BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-01-31 23:59:59' | IDX_EVENT_ORGANIZER_START",
+            "SELECT * FROM event WHERE company_id = 1 AND event_start_date BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-01-31 23:59:59' | IDX_EVENT_COMPANY_START",
+            "SELECT id FROM event WHERE company_id = 1 AND id > 10 ORDER BY id | ",
+            "SELECT * FROM users WHERE email_verification_token = 'token' | UK_USERS_EMAIL_VERIFICATION_TOKEN",
+            "SELECT * FROM users WHERE email = 'user@example.com' | ",
+            "SELECT * FROM invitation WHERE token = 'token' | ",
+            "SELECT * FROM outbox WHERE status = 'PENDING' AND next_attempt_at <= TIMESTAMP '2024-01-01 00:00:00' ORDER BY id | IDX_OUTBOX_STATUS_NEXT_ATTEMPT"
+    })
+    void hotPathUsesAnIndex(String query, String expectedIndex) throws SQLException {
+        String plan = explain(query);
+
+        assertFalse(plan.contains(".tableScan"), () -> "Full table scan for: " + query + "\n" + plan);
+        if (expectedIndex != null) {
+            assertTrue(plan.contains("PUBLIC." + expectedIndex + ":"), () -> "Expected " + expectedIndex + " for: " + query + "\n" + plan);
+        }
+    }
+
+    private String explain(String query) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
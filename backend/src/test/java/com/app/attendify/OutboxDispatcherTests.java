@@ -0,0 +1,143 @@
+package com.app.attendify;
+
+import com.app.attendify.company.dto.InvitationJobDTO;
+import com.app.attendify.company.dto.InvitationRequestDto;
+import com.app.attendify.company.enums.InvitationJobStatus;
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.Department;
+import com.app.attendify.company.repository.CompanyRepository;
+import com.app.attendify.company.repository.DepartmentRepository;
+import com.app.attendify.company.services.InvitationJobService;
+import com.app.attendify.outbox.enums.OutboxStatus;
+import com.app.attendify.outbox.model.OutboxMessage;
+import com.app.attendify.outbox.repository.OutboxMessageRepository;
+import com.app.attendify.outbox.services.OutboxDispatcher;
+import com.app.attendify.outbox.services.OutboxService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-dispatcher",
+        "spring.mail.port=3025",
+        "attendify.outbox.rate-per-second=1000",
+        "attendify.outbox.max-attempts=2",
+        "attendify.outbox.retry-backoff-ms=0"
+})
+class OutboxDispatcherTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private InvitationJobService invitationJobService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        outboxMessageRepository.deleteAll();
+    }
+
+    @Test
+    void deliversQueuedMessages() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> outboxService.enqueue("user@example.com", "Email Verification", "Please verify your email"));
+
+        outboxDispatcher.drain();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertEquals("Email Verification", received[0].getSubject());
+
+        OutboxMessage message = outboxMessageRepository.findAll().get(0);
+        assertEquals(OutboxStatus.SENT, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertNotNull(message.getSentAt());
+    }
+
+    @Test
+    void rolledBackTransactionsSendNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueue("user@example.com", "Email Verification", "Please verify your email");
+            status.setRollbackOnly();
+        });
+
+        outboxDispatcher.drain();
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(0, outboxMessageRepository.count());
+    }
+
+    @Test
+    void deadLettersMessagesAfterMaxAttempts() {
+        greenMail.stop();
+        transactionTemplate.executeWithoutResult(status -> outboxService.enqueue("user@example.com", "Email Verification", "Please verify your email"));
+
+        outboxDispatcher.drain();
+        OutboxMessage retried = outboxMessageRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+
+        outboxDispatcher.drain();
+        OutboxMessage dead = outboxMessageRepository.findAll().get(0);
+        assertEquals(OutboxStatus.DEAD, dead.getStatus());
+        assertEquals(2, dead.getAttempts());
+        assertNotNull(dead.getLastError());
+    }
+
+    @Test
+    void invitationJobTracksOutboxDelivery() throws Exception {
+        Company company = companyRepository.save(new Company().setName("Outbox").setDescription("Outbox"));
+        Department department = new Department();
+        department.setName("Engineering");
+        department.setCompany(company);
+        departmentRepository.save(department);
+
+        InvitationJobDTO queued = invitationJobService.enqueue(List.of(emailDepartment("a@example.com", department.getId()), emailDepartment("b@example.com", department.getId())), company);
+        assertEquals(InvitationJobStatus.QUEUED, queued.getStatus());
+
+        outboxDispatcher.drain();
+
+        InvitationJobDTO finished = invitationJobService.getJob(queued.getJobId(), company.getId());
+        assertEquals(InvitationJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(2, finished.getSentCount());
+        assertNotNull(finished.getFinishedAt());
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertTrue(greenMail.getReceivedMessages()[0].getContent().toString().contains("register-participant?token="));
+    }
+
+    private static InvitationRequestDto.EmailDepartment emailDepartment(String email, Integer departmentId) {
+        InvitationRequestDto.EmailDepartment emailDepartment = new InvitationRequestDto.EmailDepartment();
+        emailDepartment.setEmail(email);
+        emailDepartment.setDepartmentId(departmentId);
+        return emailDepartment;
+    }
+}
@@ -0,0 +1,109 @@
+package com.app.attendify;
+
+import com.app.attendify.company.model.Company;
+import com.app.attendify.company.model.Department;
+import com.app.attendify.company.repository.CompanyRepository;
+import com.app.attendify.company.repository.DepartmentRepository;
+import com.app.attendify.eventParticipant.dto.ParticipantImportErrorDTO;
+import com.app.attendify.eventParticipant.dto.ParticipantImportReportDTO;
+import com.app.attendify.eventParticipant.enums.ParticipantImportFormat;
+import com.app.attendify.eventParticipant.repository.EventParticipantRepository;
+import com.app.attendify.eventParticipant.service.ParticipantImportService;
+import com.app.attendify.security.model.RoleEnum;
+import com.app.attendify.security.repositories.RoleRepository;
+import com.app.attendify.security.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:participant-import",
+        "attendify.participant-import.batch-size=2"
+})
+class ParticipantImportServiceTests {
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    private Company company;
+    private Department department;
+
+    @BeforeEach
+    void createCompany() {
+        TestRoles.findOrCreate(roleRepository, RoleEnum.EVENT_PARTICIPANT);
+
+        company = companyRepository.save(new Company().setName("Import").setDescription("Import"));
+        department = new Department();
+        department.setName("Engineering");
+        department.setCompany(company);
+        departmentRepository.save(department);
+    }
+
+    @Test
+    void importsCsvRowsAndReportsInvalidOnes() throws Exception {
+        String csv = "name,email,password,age,yearsOfExperience,gender,educationLevel,occupation,departmentId\n" +
+                "Alice Anderson,alice@import.com,password1,30,5,FEMALE,MASTER,DESIGNER," + department.getId() + "\n" +
+                "Bob Builder,bob@import.com,password2,41,12,MALE,BACHELOR,SOFTWARE_ENGINEER," + department.getId() + "\n" +
+                "Carol Carter,not-an-email,password3,25,1,FEMALE,PHD,DATA_SCIENTIST," + department.getId() + "\n" +
+                "Dave Dawson,dave@import.com,password4,25,1,ROBOT,PHD,DATA_SCIENTIST," + department.getId() + "\n" +
+                "Erin Edwards,erin@import.com,password5,25,1,FEMALE,PHD,DATA_SCIENTIST,999999\n" +
+                "Alice Again,alice@import.com,password6,30,5,FEMALE,MASTER,DESIGNER," + department.getId() + "\n" +
+                "Frank Foster,frank@import.com,password7,35,8,OTHER,OTHER,PRODUCT_MANAGER," + department.getId() + "\n";
+
+        ParticipantImportReportDTO report = importRows(csv, ParticipantImportFormat.CSV);
+
+        assertEquals(7, report.getTotalRows());
+        assertEquals(3, report.getImportedCount());
+        assertEquals(4, report.getFailedCount());
+        Map<Long, String> errors = report.getErrors().stream().collect(Collectors.toMap(ParticipantImportErrorDTO::getRow, ParticipantImportErrorDTO::getError));
+        assertEquals("Invalid email format", errors.get(3L));
+        assertEquals("Invalid value for gender", errors.get(4L));
+        assertEquals("Invalid department", errors.get(5L));
+        assertEquals("Duplicate email in import", errors.get(6L));
+
+        assertTrue(userRepository.findByEmail("frank@import.com").isPresent());
+        assertEquals(department.getId(), eventParticipantRepository.findByUser_Email("bob@import.com").orElseThrow().getDepartment().getId());
+    }
+
+    @Test
+    void importsNdjsonAndSkipsExistingUsers() throws Exception {
+        String row = "{\"name\":\"Grace Gordon\",\"email\":\"grace@import.com\",\"password\":\"password1\",\"age\":28,\"yearsOfExperience\":3,\"gender\":\"FEMALE\",\"educationLevel\":\"BACHELOR\",\"occupation\":\"MARKETING_SPECIALIST\",\"departmentId\":" + department.getId() + "}\n";
+
+        ParticipantImportReportDTO first = importRows(row, ParticipantImportFormat.NDJSON);
+        ParticipantImportReportDTO second = importRows(row + "{\"name\":\"Short\"}\n", ParticipantImportFormat.NDJSON);
+
+        assertEquals(1, first.getImportedCount());
+        assertEquals(0, second.getImportedCount());
+        assertEquals(List.of(1L, 2L), second.getErrors().stream().map(ParticipantImportErrorDTO::getRow).sorted().toList());
+        assertTrue(second.getErrors().stream().anyMatch(error -> error.getError().equals("User already exists")));
+    }
+
+    private ParticipantImportReportDTO importRows(String content, ParticipantImportFormat format) throws Exception {
+        return participantImportService.importParticipants(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, company);
+    }
+}
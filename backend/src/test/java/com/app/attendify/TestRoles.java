@@ -0,0 +1,20 @@
+package com.app.attendify;
+
+import com.app.attendify.security.model.Role;
+import com.app.attendify.security.model.RoleEnum;
+import com.app.attendify.security.repositories.RoleRepository;
+
+final class TestRoles {
+
+    private TestRoles() {
+    }
+
+    static Role findOrCreate(RoleRepository roleRepository, RoleEnum name) {
+        return roleRepository.findByName(name).orElseGet(() -> {
+            Role role = new Role();
+            role.setName(name);
+            role.setDescription(name.name());
+            return roleRepository.save(role);
+        });
+    }
+}
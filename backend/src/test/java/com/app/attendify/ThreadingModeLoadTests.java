@@ -0,0 +1,110 @@
+package com.app.attendify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThreadingModeLoadTests {
+
+    private static final int PLATFORM_THREADS = 20;
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final long BLOCKING_MILLIS = 100;
+
+    @Test
+    void platformThreadsCapConcurrentRequests() throws Exception {
+        LoadResult platform = run(false);
+
+        assertEquals(CONCURRENT_REQUESTS, platform.succeeded());
+        assertTrue(platform.maxConcurrent() <= PLATFORM_THREADS, () -> "Platform mode exceeded the thread pool: " + platform);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsLiftTheThreadCap() throws Exception {
+        LoadResult virtual = run(true);
+
+        assertEquals(CONCURRENT_REQUESTS, virtual.succeeded());
+        assertTrue(virtual.maxConcurrent() > PLATFORM_THREADS, () -> "Virtual mode did not lift the thread cap: " + virtual);
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        BlockingProbeController.inFlight.set(0);
+        BlockingProbeController.maxInFlight.set(0);
+
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AttendifyApplication.class, BlockingProbeController.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/auth/load-probe");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            burst(client, uri);
+            BlockingProbeController.maxInFlight.set(0);
+            List<Long> latencies = burst(client, uri);
+
+            return new LoadResult(mode, latencies.size(), latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1), BlockingProbeController.maxInFlight.get());
+        }
+    }
+
+    private List<Long> burst(HttpClient client, URI uri) throws Exception {
+        List<CompletableFuture<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            long start = System.nanoTime();
+            requests.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()).thenApply(response -> response.statusCode() == 200 ? (System.nanoTime() - start) / 1_000_000 : -1L));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (CompletableFuture<Long> request : requests) {
+            long latency = request.get();
+            if (latency >= 0) {
+                latencies.add(latency);
+            }
+        }
+        Collections.sort(latencies);
+        return latencies;
+    }
+
+    private record LoadResult(String mode, int succeeded, long p99Millis, int maxConcurrent) {
+    }
+
+    @RestController
+    static class BlockingProbeController {
+
+        static final AtomicInteger inFlight = new AtomicInteger();
+        static final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @GetMapping("/api/auth/load-probe")
+        String probe() throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_MILLIS);
+                return "ok";
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
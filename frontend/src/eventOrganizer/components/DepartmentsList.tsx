@@ -1,9 +1,10 @@
 import React, { useEffect, useState } from "react";
 import {
   addDepartments,
+  fetchDepartmentParticipants,
   fetchDepartmentsByCompany,
 } from "../services/eventOrganizerService";
-import { DepartmentDTO } from "../../types/eventTypes";
+import { DepartmentDTO, Participant } from "../../types/eventTypes";
 import Layout from "../../shared/components/EventOrganizerLayout";
 import axios from "axios";
 import { FaUsers, FaCalendarAlt, FaPlusCircle } from "react-icons/fa";
@@ -21,6 +22,9 @@ const DepartmentsList: React.FC = () => {
   const [showMoreEvents, setShowMoreEvents] = useState<{
     [departmentId: number]: boolean;
   }>({});
+  const [allParticipants, setAllParticipants] = useState<{
+    [departmentId: number]: Participant[];
+  }>({});
 
   const toggleEventDetails = (departmentId: number, eventId: number) => {
     setExpandedEvent((prev) =>
@@ -37,6 +41,27 @@ const DepartmentsList: React.FC = () => {
     }));
   };
 
+  const handleMoreParticipantsClick = async (departmentId: number) => {
+    if (allParticipants[departmentId]) {
+      setAllParticipants((prev) => {
+        const updated = { ...prev };
+        delete updated[departmentId];
+        return updated;
+      });
+      return;
+    }
+
+    try {
+      const page = await fetchDepartmentParticipants(departmentId);
+      setAllParticipants((prev) => ({
+        ...prev,
+        [departmentId]: page.participants,
+      }));
+    } catch (error) {
+      setError("Error fetching department participants");
+    }
+  };
+
   useEffect(() => {
     const getDepartments = async () => {
       try {
@@ -147,12 +172,15 @@ const DepartmentsList: React.FC = () => {
             <div>
               <h4 className="text-xl font-medium flex items-center space-x-2">
                 <FaUsers />
-                <span>Participants:</span>
+                <span>Participants ({department.participantCount}):</span>
               </h4>
               {department.participants && department.participants.length > 0 ? (
                 <>
                   <ul className="space-y-2 mt-4">
-                    {department.participants.slice(0, 5).map((participant) => (
+                    {(
+                      allParticipants[department.id] ||
+                      department.participants.slice(0, 5)
+                    ).map((participant) => (
                       <li
                         key={participant.participantId}
                         className="border-b pb-2 text-gray-300"
@@ -161,9 +189,14 @@ const DepartmentsList: React.FC = () => {
                       </li>
                     ))}
                   </ul>
-                  {department.participants.length > 5 && (
-                    <button className="text-blue-500 mt-4">
-                      More Participants
+                  {department.participantCount > 5 && (
+                    <button
+                      className="text-blue-500 mt-4"
+                      onClick={() => handleMoreParticipantsClick(department.id)}
+                    >
+                      {allParticipants[department.id]
+                        ? "Show Less"
+                        : "More Participants"}
                     </button>
                   )}
                 </>
@@ -175,7 +208,7 @@ const DepartmentsList: React.FC = () => {
             <div>
               <h4 className="text-xl font-medium flex items-center space-x-2">
                 <FaCalendarAlt />
-                <span>Events</span>
+                <span>Events ({department.eventCount})</span>
               </h4>
               {department.events && department.events.length > 0 ? (
                 <>
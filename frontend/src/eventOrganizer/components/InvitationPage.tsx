@@ -3,6 +3,7 @@ import axios from "axios";
 import { useNavigate } from "react-router-dom";
 import { AiOutlineExclamationCircle } from "react-icons/ai";
 import Layout from "../../shared/components/EventOrganizerLayout";
+import { InvitationJob } from "../../types/eventTypes";
 
 const InvitationPage: React.FC = () => {
   const [companyName, setCompanyName] = useState<string | null>(null);
@@ -16,6 +17,7 @@ const InvitationPage: React.FC = () => {
   >([]);
   const [successMessage, setSuccessMessage] = useState<string | null>(null);
   const [error, setError] = useState<string | null>(null);
+  const [job, setJob] = useState<InvitationJob | null>(null);
   const [emailErrors, setEmailErrors] = useState<
     { email?: string; departmentId?: string }[]
   >([{ email: "", departmentId: "" }]);
@@ -58,14 +60,39 @@ const InvitationPage: React.FC = () => {
     fetchCompanyData();
   }, []);
 
+  useEffect(() => {
+    if (!job || job.status === "COMPLETED" || job.status === "COMPLETED_WITH_ERRORS") {
+      return;
+    }
+
+    const timeout = setTimeout(async () => {
+      try {
+        const response = await axios.get<InvitationJob>(
+          `https://attendify-backend-el2r.onrender.com/api/auth/invitation/jobs/${job.jobId}`,
+          {
+            headers: {
+              Authorization: `Bearer ${localStorage.getItem("token")}`,
+            },
+          }
+        );
+        setJob(response.data);
+      } catch (err: any) {
+        console.error("Error fetching invitation progress: ", err);
+      }
+    }, 2000);
+
+    return () => clearTimeout(timeout);
+  }, [job]);
+
   const emailRegex = /^[^\s@]+@[^\s@]+\.[^\s@]+$/;
 
   const handleSendInvitations = async () => {
     setSuccessMessage(null);
     setError(null);
+    setJob(null);
 
     try {
-      const response = await axios.post(
+      const response = await axios.post<InvitationJob>(
         "https://attendify-backend-el2r.onrender.com/api/auth/invitation/sendBulk",
         { emails, companyId },
         {
@@ -76,7 +103,10 @@ const InvitationPage: React.FC = () => {
         }
       );
 
-      setSuccessMessage(response.data);
+      setJob(response.data);
+      setSuccessMessage(
+        `Invitations queued for ${response.data.totalCount} email(s).`
+      );
       setEmails([{ email: "", departmentId: 0 }]);
       setEmailErrors([{ email: "", departmentId: "" }]);
     } catch (err: any) {
@@ -244,6 +274,24 @@ const InvitationPage: React.FC = () => {
           {successMessage}
         </div>
       )}
+      {job && (
+        <div className="p-4 mt-4 bg-gray-800 text-gray-200 rounded-lg shadow-md">
+          <p>
+            Sent {job.sentCount} of {job.totalCount}
+            {job.failedCount > 0 && `, ${job.failedCount} failed`}
+            {job.pendingCount > 0 && `, ${job.pendingCount} pending`}
+          </p>
+          {job.failures.length > 0 && (
+            <ul className="mt-2 text-sm text-red-400">
+              {job.failures.map((failure) => (
+                <li key={failure.email}>
+                  {failure.email}: {failure.error}
+                </li>
+              ))}
+            </ul>
+          )}
+        </div>
+      )}
       {error && (
         <div className="p-4 bg-red-800 text-red-400 rounded-lg shadow-md">
           {error}
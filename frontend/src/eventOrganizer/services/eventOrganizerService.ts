@@ -5,6 +5,7 @@ import {
   FeedbackDTO,
   FeedbackSummaryDTO,
   Participant,
+  ParticipantDirectoryPage,
   UpcomingEvent,
 } from "../../types/eventTypes";
 
@@ -506,6 +507,36 @@ export const fetchDepartmentsByCompany = async (): Promise<DepartmentDTO[]> => {
   }
 };
 
+export const fetchDepartmentParticipants = async (
+  departmentId: number,
+  page: number = 0,
+  size: number = 50
+): Promise<ParticipantDirectoryPage> => {
+  try {
+    const response = await fetch(
+      `https://attendify-backend-el2r.onrender.com/api/auth/event-organizer/company/departments/${departmentId}/participants?page=${page}&size=${size}`,
+      {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+          Authorization: `Bearer ${localStorage.getItem("token")}`,
+        },
+      }
+    );
+
+    if (!response.ok) {
+      throw new Error("Failed to fetch department participants");
+    }
+
+    const data = await response.json();
+
+    return data;
+  } catch (error) {
+    console.error("Error fetching department participants:", error);
+    throw error;
+  }
+};
+
 export const fetchEventDetails = async (eventId: string): Promise<any> => {
   try {
     const response = await fetch(
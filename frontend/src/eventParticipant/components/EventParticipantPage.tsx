@@ -294,6 +294,7 @@ const EventParticipantPage: React.FC = () => {
             const isJoinDeadlinePassed = currentTime > joinDeadline;
             const isPending = event.status === "PENDING";
             const isAccepted = event.status === "ACCEPTED";
+            const isWaitlisted = event.status === "WAITLISTED";
             const isNotJoined = event.status === "NOT_JOINED";
             const eventEndDate = new Date(event.eventEndDate);
             const isEventEnded = currentTime > eventEndDate;
@@ -395,7 +396,7 @@ const EventParticipantPage: React.FC = () => {
                   </p>
                 )}
 
-                {!isJoinDeadlinePassed && !isAccepted && !isPending && (
+                {!isJoinDeadlinePassed && !isAccepted && !isPending && !isWaitlisted && (
                   <button
                     onClick={() => handleJoinEvent(event.id)}
                     className="bg-blue-600 text-white py-2 px-4 rounded-lg hover:bg-blue-500 mt-4"
@@ -403,7 +404,7 @@ const EventParticipantPage: React.FC = () => {
                     Join Event
                   </button>
                 )}
-                {(isPending || isAccepted) && !isEventEnded && (
+                {(isPending || isAccepted || isWaitlisted) && !isEventEnded && (
                   <button
                     onClick={() => handleUnjoinEvent(event.id)}
                     className="bg-yellow-600 text-black py-2 px-4 rounded-lg hover:bg-yellow-500 mt-4"
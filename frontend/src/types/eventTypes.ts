@@ -50,6 +50,26 @@ export interface DepartmentDTO {
   name: string;
   participants: Participant[];
   events: Event[]; 
+  participantCount: number;
+  eventCount: number;
+}
+
+export interface ParticipantDirectoryPage {
+  participants: Participant[];
+  totalCount: number;
+  page: number;
+  size: number;
+}
+
+export interface InvitationJob {
+  jobId: number;
+  status: "QUEUED" | "RUNNING" | "COMPLETED" | "COMPLETED_WITH_ERRORS";
+  totalCount: number;
+  sentCount: number;
+  failedCount: number;
+  pendingCount: number;
+  sentPerSecond: number;
+  failures: { email: string; attempts: number; error: string }[];
 }
 
 export interface Participant {